@@ -0,0 +1,366 @@
+package io.disc99.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Generates a {@code <Type>Validator} class for every type whose fields carry the constraints of
+ * {@code io.disc99.validation.annotation}.
+ *
+ * The generated {@code validate} method reads each field through its record accessor, getter or the field itself,
+ * and checks all constraints in declaration order with straight-line code: no reflection, no rule objects and
+ * no lambdas, so there is nothing to initialise at startup beyond the precompiled patterns.
+ * The violations are the same messages the hand-written rules report, in field order.
+ */
+@SupportedAnnotationTypes({
+        ValidatorProcessor.NOT_NULL,
+        ValidatorProcessor.LENGTH,
+        ValidatorProcessor.PATTERN,
+        ValidatorProcessor.RANGE})
+public final class ValidatorProcessor extends AbstractProcessor {
+
+    static final String NOT_NULL = "io.disc99.validation.annotation.NotNull";
+    static final String LENGTH = "io.disc99.validation.annotation.Length";
+    static final String PATTERN = "io.disc99.validation.annotation.Pattern";
+    static final String RANGE = "io.disc99.validation.annotation.Range";
+
+    private static final String VALIDATION = "io.disc99.validation.Validation";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : types) {
+            generate(type);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "constrained type %s must not be private", type.getQualifiedName());
+                return;
+            }
+        }
+        boolean generic = !type.getTypeParameters().isEmpty();
+        String typeName = type.getQualifiedName() + (generic ? wildcards(type) : "");
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String className = validatorName(type);
+
+        StringBuilder constants = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        boolean failed = false;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            AnnotationMirror notNull = find(field, NOT_NULL);
+            AnnotationMirror length = find(field, LENGTH);
+            AnnotationMirror pattern = find(field, PATTERN);
+            AnnotationMirror range = find(field, RANGE);
+            if (notNull == null && length == null && pattern == null && range == null) {
+                continue;
+            }
+            String accessor = accessor(type, field);
+            if (accessor == null) {
+                failed = true;
+                continue;
+            }
+            TypeMirror fieldType = generic ? processingEnv.getTypeUtils().erasure(field.asType()) : field.asType();
+            String name = field.getSimpleName().toString();
+            String value = name + "Value";
+
+            List<String> checks = new ArrayList<>();
+            if (length != null) {
+                if (!isCharSequence(fieldType)) {
+                    error(field, "@Length requires a CharSequence, found %s", fieldType);
+                    failed = true;
+                } else {
+                    long min = ((Number) value(length, "min")).longValue();
+                    long max = ((Number) value(length, "max")).longValue();
+                    checks.add(check(value + ".length() < " + min + " || " + value + ".length() > " + max,
+                            String.format("size must be between %s and %s", min, max)));
+                }
+            }
+            if (pattern != null) {
+                String regexp = (String) value(pattern, "regexp");
+                if (!isCharSequence(fieldType)) {
+                    error(field, "@Pattern requires a CharSequence, found %s", fieldType);
+                    failed = true;
+                } else if (!compiles(field, regexp)) {
+                    failed = true;
+                } else {
+                    String constant = constantName(name) + "_PATTERN";
+                    constants.append("    private static final java.util.regex.Pattern ").append(constant)
+                            .append(" = java.util.regex.Pattern.compile(").append(literal(regexp)).append(");\n\n");
+                    checks.add(check("!" + constant + ".matcher(" + value + ").matches()",
+                            String.format("must match \"%s\"", regexp)));
+                }
+            }
+            if (range != null) {
+                if (!isNumber(fieldType)) {
+                    error(field, "@Range requires a primitive or boxed number, found %s", fieldType);
+                    failed = true;
+                } else {
+                    long min = (Long) value(range, "min");
+                    long max = (Long) value(range, "max");
+                    checks.add(check(value + " < " + min + "L || " + value + " > " + max + "L",
+                            String.format("size must be between %s and %s", min, max)));
+                }
+            }
+
+            body.append("        ").append(fieldType).append(' ').append(value).append(" = target.").append(accessor).append(";\n");
+            if (fieldType.getKind().isPrimitive()) {
+                appendIndented(body, checks, "        ");
+            } else if (notNull != null) {
+                body.append("        if (").append(value).append(" == null) {\n")
+                        .append("            violations = violation(violations, ").append(literal("may not be null")).append(");\n");
+                if (checks.isEmpty()) {
+                    body.append("        }\n");
+                } else {
+                    body.append("        } else {\n");
+                    appendIndented(body, checks, "            ");
+                    body.append("        }\n");
+                }
+            } else {
+                body.append("        if (").append(value).append(" != null) {\n");
+                appendIndented(body, checks, "            ");
+                body.append("        }\n");
+            }
+        }
+        if (failed) {
+            return;
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Validates {@link ").append(type.getQualifiedName()).append("} by its field constraints.\n")
+                .append(" * Generated by {@code ").append(ValidatorProcessor.class.getName()).append("}, do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(className).append(" {\n\n")
+                .append(constants)
+                .append("    private ").append(className).append("() {\n")
+                .append("    }\n\n")
+                .append("    public static ").append(VALIDATION).append("<java.lang.String, ").append(typeName).append("> validate(")
+                .append(typeName).append(" target) {\n")
+                .append("        java.util.Objects.requireNonNull(target, \"target is null\");\n")
+                .append("        java.util.List<java.lang.String> violations = null;\n")
+                .append(body)
+                .append("        return violations == null ? ").append(VALIDATION).append(".valid(target) : ")
+                .append(VALIDATION).append(".invalid(violations);\n")
+                .append("    }\n\n")
+                .append("    private static java.util.List<java.lang.String> violation(java.util.List<java.lang.String> violations, java.lang.String message) {\n")
+                .append("        if (violations == null) {\n")
+                .append("            violations = new java.util.ArrayList<>();\n")
+                .append("        }\n")
+                .append("        violations.add(message);\n")
+                .append("        return violations;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(type, "cannot write %s: %s", qualifiedName, e.getMessage());
+        }
+    }
+
+    /**
+     * Finds how the generated class reads {@code field}: a record accessor, a {@code get}/{@code is} getter,
+     * or the field itself if it is not private.
+     */
+    private String accessor(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (type.getKind().name().equals("RECORD")) {
+            return name + "()";
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && (method.getSimpleName().contentEquals("get" + capitalized)
+                    || method.getSimpleName().contentEquals("is" + capitalized))) {
+                return method.getSimpleName() + "()";
+            }
+        }
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return name;
+        }
+        error(field, "constrained field %s needs a non-private getter or must not be private", name);
+        return null;
+    }
+
+    private boolean compiles(Element field, String regexp) {
+        try {
+            Pattern.compile(regexp);
+            return true;
+        } catch (PatternSyntaxException e) {
+            error(field, "@Pattern regexp is invalid: %s", e.getDescription());
+            return false;
+        }
+    }
+
+    private boolean isCharSequence(TypeMirror type) {
+        TypeMirror charSequence = processingEnv.getElementUtils().getTypeElement("java.lang.CharSequence").asType();
+        return type.getKind() == TypeKind.DECLARED && processingEnv.getTypeUtils().isAssignable(type, charSequence);
+    }
+
+    private boolean isNumber(TypeMirror type) {
+        TypeKind kind = type.getKind();
+        if (kind == TypeKind.DECLARED) {
+            try {
+                kind = processingEnv.getTypeUtils().unboxedType(type).getKind();
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return kind == TypeKind.BYTE || kind == TypeKind.SHORT || kind == TypeKind.INT
+                || kind == TypeKind.LONG || kind == TypeKind.FLOAT || kind == TypeKind.DOUBLE;
+    }
+
+    private static AnnotationMirror find(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object value(AnnotationMirror mirror, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalStateException(name + " is missing on " + mirror);
+    }
+
+    private static String check(String condition, String message) {
+        return "if (" + condition + ") {\n"
+                + "    violations = violation(violations, " + literal(message) + ");\n"
+                + "}\n";
+    }
+
+    private static void appendIndented(StringBuilder out, List<String> blocks, String indent) {
+        for (String block : blocks) {
+            for (String line : block.split("\n")) {
+                out.append(indent).append(line).append('\n');
+            }
+        }
+    }
+
+    private static PackageElement packageOf(Element element) {
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return (PackageElement) element;
+    }
+
+    /**
+     * {@code Outer.Inner} becomes {@code Outer_InnerValidator}.
+     */
+    private static String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return name.append("Validator").toString();
+    }
+
+    private static String wildcards(TypeElement type) {
+        StringBuilder result = new StringBuilder("<");
+        for (int i = 0; i < type.getTypeParameters().size(); i++) {
+            result.append(i == 0 ? "?" : ", ?");
+        }
+        return result.append('>').toString();
+    }
+
+    private static String constantName(String field) {
+        StringBuilder result = new StringBuilder();
+        for (char c : field.toCharArray()) {
+            if (Character.isUpperCase(c) && result.length() > 0) {
+                result.append('_');
+            }
+            result.append(Character.toUpperCase(c));
+        }
+        return result.toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder result = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    private void error(Element element, String format, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(format, args), element);
+    }
+}
@@ -0,0 +1,66 @@
+package io.disc99.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@code Validation.accumulate(...)} per arity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccumulateBenchmark {
+
+    @Benchmark
+    public Validation<String, Integer> accumulate2(Inputs in) {
+        return in.v1.accumulate(in.v2, (t1, t2) -> t1 + t2);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate3(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, (t1, t2, t3) -> t1 + t2 + t3);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate4(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, in.v4, (t1, t2, t3, t4) -> t1 + t2 + t3 + t4);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate5(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, in.v4, in.v5, (t1, t2, t3, t4, t5) -> t1 + t2 + t3 + t4 + t5);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate6(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, in.v4, in.v5, in.v6, (t1, t2, t3, t4, t5, t6) -> t1 + t2 + t3 + t4 + t5 + t6);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate7(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, (t1, t2, t3, t4, t5, t6, t7) -> t1 + t2 + t3 + t4 + t5 + t6 + t7);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate8(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, in.v8, (t1, t2, t3, t4, t5, t6, t7, t8) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate9(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, in.v8, in.v9, (t1, t2, t3, t4, t5, t6, t7, t8, t9) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8 + t9);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate10(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, in.v8, in.v9, in.v10, (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8 + t9 + t10);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> accumulate11(Inputs in) {
+        return in.v1.accumulate(in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, in.v8, in.v9, in.v10, in.v11, (t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8 + t9 + t10 + t11);
+    }
+}
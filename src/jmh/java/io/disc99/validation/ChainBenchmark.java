@@ -0,0 +1,41 @@
+package io.disc99.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
+
+import static io.disc99.validation.Validation.valid;
+
+/**
+ * Cost of chaining {@code map}, {@code flatMap} and {@code apply} over a single validation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainBenchmark {
+
+    private static final Validation<String, Function<Integer, Integer>> INCREMENT = valid(i -> i + 1);
+
+    @Benchmark
+    public Validation<String, Integer> map(Inputs in) {
+        return in.v1.map(i -> i + 1).map(i -> i * 2).map(i -> i - 1);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> flatMap(Inputs in) {
+        return in.v1.flatMap(i -> in.v2).flatMap(i -> in.v3).flatMap(i -> in.v4);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> apply(Inputs in) {
+        return in.v1.apply(INCREMENT).apply(INCREMENT).apply(INCREMENT);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> applyAccumulating(Inputs in) {
+        return in.v4.apply(in.v3.apply(in.v2.apply(in.v1.map(a -> (Function<Integer, Function<Integer, Function<Integer, Integer>>>) b -> c -> d -> a + b + c + d))));
+    }
+}
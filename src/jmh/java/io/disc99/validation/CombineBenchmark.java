@@ -0,0 +1,68 @@
+package io.disc99.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.disc99.validation.Validation.combine;
+
+/**
+ * Cost of {@code Validation.combine(...).apply(...)} per arity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombineBenchmark {
+
+    @Benchmark
+    public Validation<String, Integer> combine2(Inputs in) {
+        return combine(in.v1, in.v2).apply((t1, t2) -> t1 + t2);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine3(Inputs in) {
+        return combine(in.v1, in.v2, in.v3).apply((t1, t2, t3) -> t1 + t2 + t3);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine4(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4).apply((t1, t2, t3, t4) -> t1 + t2 + t3 + t4);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine5(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4, in.v5).apply((t1, t2, t3, t4, t5) -> t1 + t2 + t3 + t4 + t5);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine6(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4, in.v5, in.v6).apply((t1, t2, t3, t4, t5, t6) -> t1 + t2 + t3 + t4 + t5 + t6);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine7(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4, in.v5, in.v6, in.v7).apply((t1, t2, t3, t4, t5, t6, t7) -> t1 + t2 + t3 + t4 + t5 + t6 + t7);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine8(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, in.v8).apply((t1, t2, t3, t4, t5, t6, t7, t8) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine9(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, in.v8, in.v9).apply((t1, t2, t3, t4, t5, t6, t7, t8, t9) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8 + t9);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine10(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, in.v8, in.v9, in.v10).apply((t1, t2, t3, t4, t5, t6, t7, t8, t9, t10) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8 + t9 + t10);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> combine11(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4, in.v5, in.v6, in.v7, in.v8, in.v9, in.v10, in.v11).apply((t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11) -> t1 + t2 + t3 + t4 + t5 + t6 + t7 + t8 + t9 + t10 + t11);
+    }
+}
@@ -0,0 +1,51 @@
+package io.disc99.validation;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.disc99.validation.Validation.invalid;
+import static io.disc99.validation.Validation.valid;
+
+/**
+ * Validations shared by the benchmarks: all valid, all invalid, or alternating.
+ */
+@State(Scope.Benchmark)
+public class Inputs {
+
+    static final int SIZE = 11;
+
+    @Param({"valid", "invalid", "mixed"})
+    public String shape;
+
+    Validation<String, Integer> v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11;
+
+    @Setup
+    public void setUp() {
+        v1 = create(1);
+        v2 = create(2);
+        v3 = create(3);
+        v4 = create(4);
+        v5 = create(5);
+        v6 = create(6);
+        v7 = create(7);
+        v8 = create(8);
+        v9 = create(9);
+        v10 = create(10);
+        v11 = create(11);
+    }
+
+    private Validation<String, Integer> create(int i) {
+        switch (shape) {
+            case "valid":
+                return valid(i * 1000);
+            case "invalid":
+                return invalid("violation " + i);
+            case "mixed":
+                return i % 2 == 0 ? invalid("violation " + i) : valid(i * 1000);
+            default:
+                throw new IllegalArgumentException(shape);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.disc99.validation;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.disc99.validation.Validation.combine;
+
+/**
+ * Validating objects through {@code combine} builders, a compiled schema (interpreter)
+ * and a cloned straight-line template.
+ *
+ * The single-schema benchmarks see one schema per fork, so every call site stays monomorphic. The
+ * {@code polluted} ones validate with four schemas of the same arity, each with its own lambdas, which makes
+ * the rule and function call sites of the interpreter and of a shared template megamorphic, as in an
+ * application with many schemas. Only per-schema template clones (Java 21 and later) keep them monomorphic.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaBenchmark {
+
+    private CompiledValidator<Inputs, String, Integer> interpreted;
+    private CompiledValidator<Inputs, String, Integer> cloned;
+
+    private CompiledValidator<Inputs, String, Integer>[] interpretedSchemas;
+    private CompiledValidator<Inputs, String, Integer>[] clonedSchemas;
+
+    @Setup
+    public void setUp() {
+        interpreted = Schema.of(
+                (Inputs in) -> in.v1,
+                (Inputs in) -> in.v2,
+                (Inputs in) -> in.v3,
+                (Inputs in) -> in.v4
+        ).apply((t1, t2, t3, t4) -> t1 + t2 + t3 + t4);
+        cloned = Schema.of(
+                (Inputs in) -> in.v1,
+                (Inputs in) -> in.v2,
+                (Inputs in) -> in.v3,
+                (Inputs in) -> in.v4
+        ).cloneTemplate((t1, t2, t3, t4) -> t1 + t2 + t3 + t4);
+
+        interpretedSchemas = schemas(
+                Schema.of((Inputs in) -> in.v1, (Inputs in) -> in.v2, (Inputs in) -> in.v3, (Inputs in) -> in.v4)
+                        .apply((t1, t2, t3, t4) -> t1 + t2 + t3 + t4),
+                Schema.of((Inputs in) -> in.v5, (Inputs in) -> in.v6, (Inputs in) -> in.v7, (Inputs in) -> in.v8)
+                        .apply((t1, t2, t3, t4) -> t1 - t2 + t3 - t4),
+                Schema.of((Inputs in) -> in.v2, (Inputs in) -> in.v4, (Inputs in) -> in.v6, (Inputs in) -> in.v8)
+                        .apply((t1, t2, t3, t4) -> Math.max(t1, t2) + Math.max(t3, t4)),
+                Schema.of((Inputs in) -> in.v11, (Inputs in) -> in.v9, (Inputs in) -> in.v7, (Inputs in) -> in.v5)
+                        .apply((t1, t2, t3, t4) -> t1 ^ t2 ^ t3 ^ t4)
+        );
+        clonedSchemas = schemas(
+                Schema.of((Inputs in) -> in.v1, (Inputs in) -> in.v2, (Inputs in) -> in.v3, (Inputs in) -> in.v4)
+                        .cloneTemplate((t1, t2, t3, t4) -> t1 + t2 + t3 + t4),
+                Schema.of((Inputs in) -> in.v5, (Inputs in) -> in.v6, (Inputs in) -> in.v7, (Inputs in) -> in.v8)
+                        .cloneTemplate((t1, t2, t3, t4) -> t1 - t2 + t3 - t4),
+                Schema.of((Inputs in) -> in.v2, (Inputs in) -> in.v4, (Inputs in) -> in.v6, (Inputs in) -> in.v8)
+                        .cloneTemplate((t1, t2, t3, t4) -> Math.max(t1, t2) + Math.max(t3, t4)),
+                Schema.of((Inputs in) -> in.v11, (Inputs in) -> in.v9, (Inputs in) -> in.v7, (Inputs in) -> in.v5)
+                        .cloneTemplate((t1, t2, t3, t4) -> t1 ^ t2 ^ t3 ^ t4)
+        );
+    }
+
+    @SafeVarargs
+    private static <A, E, R> CompiledValidator<A, E, R>[] schemas(CompiledValidator<A, E, R>... schemas) {
+        return schemas;
+    }
+
+    @Benchmark
+    public Validation<String, Integer> builders(Inputs in) {
+        return combine(in.v1, in.v2, in.v3, in.v4).apply((t1, t2, t3, t4) -> t1 + t2 + t3 + t4);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> interpreted(Inputs in) {
+        return interpreted.validate(in);
+    }
+
+    @Benchmark
+    public Validation<String, Integer> cloned(Inputs in) {
+        return cloned.validate(in);
+    }
+
+    @Benchmark
+    public void interpretedPolluted(Inputs in, Blackhole blackhole) {
+        for (CompiledValidator<Inputs, String, Integer> schema : interpretedSchemas) {
+            blackhole.consume(schema.validate(in));
+        }
+    }
+
+    @Benchmark
+    public void clonedPolluted(Inputs in, Blackhole blackhole) {
+        for (CompiledValidator<Inputs, String, Integer> schema : clonedSchemas) {
+            blackhole.consume(schema.validate(in));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.disc99.function;
+
+/**
+ * Auto generate FunctionalInterface.
+ *
+ * @see java.util.function.DoubleFunction
+ */
+@FunctionalInterface
+public interface DoubleFunction11<R> {
+
+    /**
+     * Auto generate method.
+     *
+     * {@link java.util.function.DoubleFunction#apply }
+     */
+    R apply(double t1, double t2, double t3, double t4, double t5, double t6, double t7, double t8, double t9, double t10, double t11);
+}
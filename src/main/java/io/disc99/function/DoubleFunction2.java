@@ -0,0 +1,17 @@
+package io.disc99.function;
+
+/**
+ * Auto generate FunctionalInterface.
+ *
+ * @see java.util.function.DoubleFunction
+ */
+@FunctionalInterface
+public interface DoubleFunction2<R> {
+
+    /**
+     * Auto generate method.
+     *
+     * {@link java.util.function.DoubleFunction#apply }
+     */
+    R apply(double t1, double t2);
+}
@@ -0,0 +1,17 @@
+package io.disc99.function;
+
+/**
+ * Auto generate FunctionalInterface.
+ *
+ * @see java.util.function.IntFunction
+ */
+@FunctionalInterface
+public interface IntFunction10<R> {
+
+    /**
+     * Auto generate method.
+     *
+     * {@link java.util.function.IntFunction#apply }
+     */
+    R apply(int t1, int t2, int t3, int t4, int t5, int t6, int t7, int t8, int t9, int t10);
+}
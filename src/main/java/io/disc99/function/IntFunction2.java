@@ -0,0 +1,17 @@
+package io.disc99.function;
+
+/**
+ * Auto generate FunctionalInterface.
+ *
+ * @see java.util.function.IntFunction
+ */
+@FunctionalInterface
+public interface IntFunction2<R> {
+
+    /**
+     * Auto generate method.
+     *
+     * {@link java.util.function.IntFunction#apply }
+     */
+    R apply(int t1, int t2);
+}
@@ -0,0 +1,17 @@
+package io.disc99.function;
+
+/**
+ * Auto generate FunctionalInterface.
+ *
+ * @see java.util.function.LongFunction
+ */
+@FunctionalInterface
+public interface LongFunction11<R> {
+
+    /**
+     * Auto generate method.
+     *
+     * {@link java.util.function.LongFunction#apply }
+     */
+    R apply(long t1, long t2, long t3, long t4, long t5, long t6, long t7, long t8, long t9, long t10, long t11);
+}
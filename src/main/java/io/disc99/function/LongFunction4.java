@@ -0,0 +1,17 @@
+package io.disc99.function;
+
+/**
+ * Auto generate FunctionalInterface.
+ *
+ * @see java.util.function.LongFunction
+ */
+@FunctionalInterface
+public interface LongFunction4<R> {
+
+    /**
+     * Auto generate method.
+     *
+     * {@link java.util.function.LongFunction#apply }
+     */
+    R apply(long t1, long t2, long t3, long t4);
+}
@@ -0,0 +1,1076 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+final class AsyncBuilders {
+
+    static final class AsyncBuilder2<E, T1, T2> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+
+        AsyncBuilder2(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2) {
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+
+        public <R> AsyncValidation<E, R> apply(BiFunction<T1, T2, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join()).apply(f)));
+        }
+
+        public <T3> AsyncBuilder3<E, T1, T2, T3> combine(AsyncValidation<E, T3> v3) {
+            return new AsyncBuilder3<>(v1, v2, v3);
+        }
+    }
+
+    static final class AsyncBuilder3<E, T1, T2, T3> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+
+        AsyncBuilder3(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function3<T1, T2, T3, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join()).apply(f)));
+        }
+
+        public <T4> AsyncBuilder4<E, T1, T2, T3, T4> combine(AsyncValidation<E, T4> v4) {
+            return new AsyncBuilder4<>(v1, v2, v3, v4);
+        }
+    }
+
+    static final class AsyncBuilder4<E, T1, T2, T3, T4> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+
+        AsyncBuilder4(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function4<T1, T2, T3, T4, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join()).apply(f)));
+        }
+
+        public <T5> AsyncBuilder5<E, T1, T2, T3, T4, T5> combine(AsyncValidation<E, T5> v5) {
+            return new AsyncBuilder5<>(v1, v2, v3, v4, v5);
+        }
+    }
+
+    static final class AsyncBuilder5<E, T1, T2, T3, T4, T5> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+
+        AsyncBuilder5(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function5<T1, T2, T3, T4, T5, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join()).apply(f)));
+        }
+
+        public <T6> AsyncBuilder6<E, T1, T2, T3, T4, T5, T6> combine(AsyncValidation<E, T6> v6) {
+            return new AsyncBuilder6<>(v1, v2, v3, v4, v5, v6);
+        }
+    }
+
+    static final class AsyncBuilder6<E, T1, T2, T3, T4, T5, T6> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+
+        AsyncBuilder6(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function6<T1, T2, T3, T4, T5, T6, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join()).apply(f)));
+        }
+
+        public <T7> AsyncBuilder7<E, T1, T2, T3, T4, T5, T6, T7> combine(AsyncValidation<E, T7> v7) {
+            return new AsyncBuilder7<>(v1, v2, v3, v4, v5, v6, v7);
+        }
+    }
+
+    static final class AsyncBuilder7<E, T1, T2, T3, T4, T5, T6, T7> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+
+        AsyncBuilder7(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join()).apply(f)));
+        }
+
+        public <T8> AsyncBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combine(AsyncValidation<E, T8> v8) {
+            return new AsyncBuilder8<>(v1, v2, v3, v4, v5, v6, v7, v8);
+        }
+    }
+
+    static final class AsyncBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+
+        AsyncBuilder8(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join()).apply(f)));
+        }
+
+        public <T9> AsyncBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> combine(AsyncValidation<E, T9> v9) {
+            return new AsyncBuilder9<>(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+        }
+    }
+
+    static final class AsyncBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+
+        AsyncBuilder9(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join()).apply(f)));
+        }
+
+        public <T10> AsyncBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combine(AsyncValidation<E, T10> v10) {
+            return new AsyncBuilder10<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+        }
+    }
+
+    static final class AsyncBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+
+        AsyncBuilder10(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join()).apply(f)));
+        }
+
+        public <T11> AsyncBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> combine(AsyncValidation<E, T11> v11) {
+            return new AsyncBuilder11<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+        }
+    }
+
+    static final class AsyncBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+
+        AsyncBuilder11(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join()).apply(f)));
+        }
+
+        public <T12> AsyncBuilder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> combine(AsyncValidation<E, T12> v12) {
+            return new AsyncBuilder12<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12);
+        }
+    }
+
+    static final class AsyncBuilder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+
+        AsyncBuilder12(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join()).apply(f)));
+        }
+
+        public <T13> AsyncBuilder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> combine(AsyncValidation<E, T13> v13) {
+            return new AsyncBuilder13<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13);
+        }
+    }
+
+    static final class AsyncBuilder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+
+        AsyncBuilder13(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join()).apply(f)));
+        }
+
+        public <T14> AsyncBuilder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> combine(AsyncValidation<E, T14> v14) {
+            return new AsyncBuilder14<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14);
+        }
+    }
+
+    static final class AsyncBuilder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+
+        AsyncBuilder14(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join()).apply(f)));
+        }
+
+        public <T15> AsyncBuilder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> combine(AsyncValidation<E, T15> v15) {
+            return new AsyncBuilder15<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15);
+        }
+    }
+
+    static final class AsyncBuilder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+        private final AsyncValidation<E, T15> v15;
+
+        AsyncBuilder15(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14, AsyncValidation<E, T15> v15) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            CompletableFuture<Validation<E, T15>> f15 = v15.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join(), f15.join()).apply(f)));
+        }
+
+        public <T16> AsyncBuilder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> combine(AsyncValidation<E, T16> v16) {
+            return new AsyncBuilder16<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16);
+        }
+    }
+
+    static final class AsyncBuilder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+        private final AsyncValidation<E, T15> v15;
+        private final AsyncValidation<E, T16> v16;
+
+        AsyncBuilder16(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14, AsyncValidation<E, T15> v15, AsyncValidation<E, T16> v16) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            CompletableFuture<Validation<E, T15>> f15 = v15.toCompletableFuture();
+            CompletableFuture<Validation<E, T16>> f16 = v16.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join(), f15.join(), f16.join()).apply(f)));
+        }
+
+        public <T17> AsyncBuilder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> combine(AsyncValidation<E, T17> v17) {
+            return new AsyncBuilder17<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17);
+        }
+    }
+
+    static final class AsyncBuilder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+        private final AsyncValidation<E, T15> v15;
+        private final AsyncValidation<E, T16> v16;
+        private final AsyncValidation<E, T17> v17;
+
+        AsyncBuilder17(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14, AsyncValidation<E, T15> v15, AsyncValidation<E, T16> v16, AsyncValidation<E, T17> v17) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function17<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            CompletableFuture<Validation<E, T15>> f15 = v15.toCompletableFuture();
+            CompletableFuture<Validation<E, T16>> f16 = v16.toCompletableFuture();
+            CompletableFuture<Validation<E, T17>> f17 = v17.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join(), f15.join(), f16.join(), f17.join()).apply(f)));
+        }
+
+        public <T18> AsyncBuilder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> combine(AsyncValidation<E, T18> v18) {
+            return new AsyncBuilder18<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18);
+        }
+    }
+
+    static final class AsyncBuilder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+        private final AsyncValidation<E, T15> v15;
+        private final AsyncValidation<E, T16> v16;
+        private final AsyncValidation<E, T17> v17;
+        private final AsyncValidation<E, T18> v18;
+
+        AsyncBuilder18(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14, AsyncValidation<E, T15> v15, AsyncValidation<E, T16> v16, AsyncValidation<E, T17> v17, AsyncValidation<E, T18> v18) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function18<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            CompletableFuture<Validation<E, T15>> f15 = v15.toCompletableFuture();
+            CompletableFuture<Validation<E, T16>> f16 = v16.toCompletableFuture();
+            CompletableFuture<Validation<E, T17>> f17 = v17.toCompletableFuture();
+            CompletableFuture<Validation<E, T18>> f18 = v18.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join(), f15.join(), f16.join(), f17.join(), f18.join()).apply(f)));
+        }
+
+        public <T19> AsyncBuilder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> combine(AsyncValidation<E, T19> v19) {
+            return new AsyncBuilder19<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19);
+        }
+    }
+
+    static final class AsyncBuilder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+        private final AsyncValidation<E, T15> v15;
+        private final AsyncValidation<E, T16> v16;
+        private final AsyncValidation<E, T17> v17;
+        private final AsyncValidation<E, T18> v18;
+        private final AsyncValidation<E, T19> v19;
+
+        AsyncBuilder19(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14, AsyncValidation<E, T15> v15, AsyncValidation<E, T16> v16, AsyncValidation<E, T17> v17, AsyncValidation<E, T18> v18, AsyncValidation<E, T19> v19) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+            this.v19 = v19;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function19<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            CompletableFuture<Validation<E, T15>> f15 = v15.toCompletableFuture();
+            CompletableFuture<Validation<E, T16>> f16 = v16.toCompletableFuture();
+            CompletableFuture<Validation<E, T17>> f17 = v17.toCompletableFuture();
+            CompletableFuture<Validation<E, T18>> f18 = v18.toCompletableFuture();
+            CompletableFuture<Validation<E, T19>> f19 = v19.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join(), f15.join(), f16.join(), f17.join(), f18.join(), f19.join()).apply(f)));
+        }
+
+        public <T20> AsyncBuilder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> combine(AsyncValidation<E, T20> v20) {
+            return new AsyncBuilder20<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20);
+        }
+    }
+
+    static final class AsyncBuilder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+        private final AsyncValidation<E, T15> v15;
+        private final AsyncValidation<E, T16> v16;
+        private final AsyncValidation<E, T17> v17;
+        private final AsyncValidation<E, T18> v18;
+        private final AsyncValidation<E, T19> v19;
+        private final AsyncValidation<E, T20> v20;
+
+        AsyncBuilder20(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14, AsyncValidation<E, T15> v15, AsyncValidation<E, T16> v16, AsyncValidation<E, T17> v17, AsyncValidation<E, T18> v18, AsyncValidation<E, T19> v19, AsyncValidation<E, T20> v20) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+            this.v19 = v19;
+            this.v20 = v20;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function20<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            CompletableFuture<Validation<E, T15>> f15 = v15.toCompletableFuture();
+            CompletableFuture<Validation<E, T16>> f16 = v16.toCompletableFuture();
+            CompletableFuture<Validation<E, T17>> f17 = v17.toCompletableFuture();
+            CompletableFuture<Validation<E, T18>> f18 = v18.toCompletableFuture();
+            CompletableFuture<Validation<E, T19>> f19 = v19.toCompletableFuture();
+            CompletableFuture<Validation<E, T20>> f20 = v20.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19, f20)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join(), f15.join(), f16.join(), f17.join(), f18.join(), f19.join(), f20.join()).apply(f)));
+        }
+
+        public <T21> AsyncBuilder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> combine(AsyncValidation<E, T21> v21) {
+            return new AsyncBuilder21<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21);
+        }
+    }
+
+    static final class AsyncBuilder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+        private final AsyncValidation<E, T15> v15;
+        private final AsyncValidation<E, T16> v16;
+        private final AsyncValidation<E, T17> v17;
+        private final AsyncValidation<E, T18> v18;
+        private final AsyncValidation<E, T19> v19;
+        private final AsyncValidation<E, T20> v20;
+        private final AsyncValidation<E, T21> v21;
+
+        AsyncBuilder21(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14, AsyncValidation<E, T15> v15, AsyncValidation<E, T16> v16, AsyncValidation<E, T17> v17, AsyncValidation<E, T18> v18, AsyncValidation<E, T19> v19, AsyncValidation<E, T20> v20, AsyncValidation<E, T21> v21) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+            this.v19 = v19;
+            this.v20 = v20;
+            this.v21 = v21;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function21<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            CompletableFuture<Validation<E, T15>> f15 = v15.toCompletableFuture();
+            CompletableFuture<Validation<E, T16>> f16 = v16.toCompletableFuture();
+            CompletableFuture<Validation<E, T17>> f17 = v17.toCompletableFuture();
+            CompletableFuture<Validation<E, T18>> f18 = v18.toCompletableFuture();
+            CompletableFuture<Validation<E, T19>> f19 = v19.toCompletableFuture();
+            CompletableFuture<Validation<E, T20>> f20 = v20.toCompletableFuture();
+            CompletableFuture<Validation<E, T21>> f21 = v21.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19, f20, f21)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join(), f15.join(), f16.join(), f17.join(), f18.join(), f19.join(), f20.join(), f21.join()).apply(f)));
+        }
+
+        public <T22> AsyncBuilder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> combine(AsyncValidation<E, T22> v22) {
+            return new AsyncBuilder22<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22);
+        }
+    }
+
+    static final class AsyncBuilder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> {
+        private final AsyncValidation<E, T1> v1;
+        private final AsyncValidation<E, T2> v2;
+        private final AsyncValidation<E, T3> v3;
+        private final AsyncValidation<E, T4> v4;
+        private final AsyncValidation<E, T5> v5;
+        private final AsyncValidation<E, T6> v6;
+        private final AsyncValidation<E, T7> v7;
+        private final AsyncValidation<E, T8> v8;
+        private final AsyncValidation<E, T9> v9;
+        private final AsyncValidation<E, T10> v10;
+        private final AsyncValidation<E, T11> v11;
+        private final AsyncValidation<E, T12> v12;
+        private final AsyncValidation<E, T13> v13;
+        private final AsyncValidation<E, T14> v14;
+        private final AsyncValidation<E, T15> v15;
+        private final AsyncValidation<E, T16> v16;
+        private final AsyncValidation<E, T17> v17;
+        private final AsyncValidation<E, T18> v18;
+        private final AsyncValidation<E, T19> v19;
+        private final AsyncValidation<E, T20> v20;
+        private final AsyncValidation<E, T21> v21;
+        private final AsyncValidation<E, T22> v22;
+
+        AsyncBuilder22(AsyncValidation<E, T1> v1, AsyncValidation<E, T2> v2, AsyncValidation<E, T3> v3, AsyncValidation<E, T4> v4, AsyncValidation<E, T5> v5, AsyncValidation<E, T6> v6, AsyncValidation<E, T7> v7, AsyncValidation<E, T8> v8, AsyncValidation<E, T9> v9, AsyncValidation<E, T10> v10, AsyncValidation<E, T11> v11, AsyncValidation<E, T12> v12, AsyncValidation<E, T13> v13, AsyncValidation<E, T14> v14, AsyncValidation<E, T15> v15, AsyncValidation<E, T16> v16, AsyncValidation<E, T17> v17, AsyncValidation<E, T18> v18, AsyncValidation<E, T19> v19, AsyncValidation<E, T20> v20, AsyncValidation<E, T21> v21, AsyncValidation<E, T22> v22) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+            this.v19 = v19;
+            this.v20 = v20;
+            this.v21 = v21;
+            this.v22 = v22;
+        }
+
+        public <R> AsyncValidation<E, R> apply(Function22<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, R> f) {
+            CompletableFuture<Validation<E, T1>> f1 = v1.toCompletableFuture();
+            CompletableFuture<Validation<E, T2>> f2 = v2.toCompletableFuture();
+            CompletableFuture<Validation<E, T3>> f3 = v3.toCompletableFuture();
+            CompletableFuture<Validation<E, T4>> f4 = v4.toCompletableFuture();
+            CompletableFuture<Validation<E, T5>> f5 = v5.toCompletableFuture();
+            CompletableFuture<Validation<E, T6>> f6 = v6.toCompletableFuture();
+            CompletableFuture<Validation<E, T7>> f7 = v7.toCompletableFuture();
+            CompletableFuture<Validation<E, T8>> f8 = v8.toCompletableFuture();
+            CompletableFuture<Validation<E, T9>> f9 = v9.toCompletableFuture();
+            CompletableFuture<Validation<E, T10>> f10 = v10.toCompletableFuture();
+            CompletableFuture<Validation<E, T11>> f11 = v11.toCompletableFuture();
+            CompletableFuture<Validation<E, T12>> f12 = v12.toCompletableFuture();
+            CompletableFuture<Validation<E, T13>> f13 = v13.toCompletableFuture();
+            CompletableFuture<Validation<E, T14>> f14 = v14.toCompletableFuture();
+            CompletableFuture<Validation<E, T15>> f15 = v15.toCompletableFuture();
+            CompletableFuture<Validation<E, T16>> f16 = v16.toCompletableFuture();
+            CompletableFuture<Validation<E, T17>> f17 = v17.toCompletableFuture();
+            CompletableFuture<Validation<E, T18>> f18 = v18.toCompletableFuture();
+            CompletableFuture<Validation<E, T19>> f19 = v19.toCompletableFuture();
+            CompletableFuture<Validation<E, T20>> f20 = v20.toCompletableFuture();
+            CompletableFuture<Validation<E, T21>> f21 = v21.toCompletableFuture();
+            CompletableFuture<Validation<E, T22>> f22 = v22.toCompletableFuture();
+            return AsyncValidation.of(CompletableFuture.allOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19, f20, f21, f22)
+                    .thenApply(ignored -> Validation.combine(f1.join(), f2.join(), f3.join(), f4.join(), f5.join(), f6.join(), f7.join(), f8.join(), f9.join(), f10.join(), f11.join(), f12.join(), f13.join(), f14.join(), f15.join(), f16.join(), f17.join(), f18.join(), f19.join(), f20.join(), f21.join(), f22.join()).apply(f)));
+        }
+    }
+}
@@ -0,0 +1,1103 @@
+package io.disc99.validation;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.disc99.validation.AsyncBuilders.*;
+
+/**
+ * A {@link Validation} that completes asynchronously, for checks that block on I/O.
+ *
+ * Combining {@code AsyncValidation}s does not block: the combined result completes once every component
+ * has completed, and accumulates their violations like {@link Validation#combine}.
+ *
+ * @param <E> type of the violation
+ * @param <T> type of the value
+ */
+public final class AsyncValidation<E, T> {
+
+    private final CompletableFuture<Validation<E, T>> future;
+
+    private AsyncValidation(CompletableFuture<Validation<E, T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Creates an {@code AsyncValidation} that completes with the given {@code stage}.
+     *
+     * @param <E>   type of the violation
+     * @param <T>   type of the value
+     * @param stage A stage of a validation
+     * @return an instance of AsyncValidation&lt;E,T&gt;
+     * @throws NullPointerException if stage is null
+     */
+    public static <E, T> AsyncValidation<E, T> of(CompletionStage<Validation<E, T>> stage) {
+        Objects.requireNonNull(stage, "stage is null");
+        return new AsyncValidation<>(stage.toCompletableFuture());
+    }
+
+    /**
+     * Creates an already completed {@code AsyncValidation}.
+     *
+     * @param <E>        type of the violation
+     * @param <T>        type of the value
+     * @param validation A validation
+     * @return an instance of AsyncValidation&lt;E,T&gt;
+     * @throws NullPointerException if validation is null
+     */
+    public static <E, T> AsyncValidation<E, T> completed(Validation<E, T> validation) {
+        Objects.requireNonNull(validation, "validation is null");
+        return new AsyncValidation<>(CompletableFuture.completedFuture(validation));
+    }
+
+    /**
+     * Runs the given check on {@code executor}.
+     *
+     * @param <E>      type of the violation
+     * @param <T>      type of the value
+     * @param check    A check producing a validation
+     * @param executor An executor to run the check on
+     * @return an instance of AsyncValidation&lt;E,T&gt;
+     * @throws NullPointerException if check or executor is null
+     */
+    public static <E, T> AsyncValidation<E, T> supplyAsync(Supplier<Validation<E, T>> check, Executor executor) {
+        Objects.requireNonNull(check, "check is null");
+        Objects.requireNonNull(executor, "executor is null");
+        return new AsyncValidation<>(CompletableFuture.supplyAsync(check, executor));
+    }
+
+    /**
+     * Maps the underlying value once the validation has completed.
+     *
+     * @param mapper A mapper
+     * @param <U>    The new component type
+     * @return A new value
+     */
+    public <U> AsyncValidation<E, U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new AsyncValidation<>(future.thenApply(validation -> validation.map(mapper)));
+    }
+
+    /**
+     * Chains a dependent asynchronous check, which only runs if this validation is valid.
+     *
+     * @param mapper A function producing the next check
+     * @param <U>    The new component type
+     * @return A new value
+     */
+    public <U> AsyncValidation<E, U> flatMap(Function<? super T, AsyncValidation<E, U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new AsyncValidation<>(future.thenCompose(validation -> validation.isValid()
+                ? mapper.apply(validation.get()).future
+                : CompletableFuture.completedFuture(Violations.of(validation).toInvalid())));
+    }
+
+    public <U> AsyncBuilder2<E, T, U> combine(AsyncValidation<E, U> validation) {
+        return combine(this, validation);
+    }
+
+    /**
+     * Waits for the validation to complete.
+     *
+     * @return the completed validation
+     * @throws java.util.concurrent.CompletionException if a check completed exceptionally
+     */
+    public Validation<E, T> join() {
+        return future.join();
+    }
+
+    public CompletableFuture<Validation<E, T>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Combines 2 {@code AsyncValidation}s into an {@link AsyncBuilder2 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @return an instance of AsyncBuilder2&lt;E,T1,T2&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2> AsyncBuilder2<E, T1, T2> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        return new AsyncBuilder2<>(validation1, validation2);
+    }
+
+    /**
+     * Combines 3 {@code AsyncValidation}s into an {@link AsyncBuilder3 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @return an instance of AsyncBuilder3&lt;E,T1,T2,T3&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3> AsyncBuilder3<E, T1, T2, T3> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        return new AsyncBuilder3<>(validation1, validation2, validation3);
+    }
+
+    /**
+     * Combines 4 {@code AsyncValidation}s into an {@link AsyncBuilder4 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @return an instance of AsyncBuilder4&lt;E,T1,T2,T3,T4&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4> AsyncBuilder4<E, T1, T2, T3, T4> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        return new AsyncBuilder4<>(validation1, validation2, validation3, validation4);
+    }
+
+    /**
+     * Combines 5 {@code AsyncValidation}s into an {@link AsyncBuilder5 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @return an instance of AsyncBuilder5&lt;E,T1,T2,T3,T4,T5&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5> AsyncBuilder5<E, T1, T2, T3, T4, T5> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        return new AsyncBuilder5<>(validation1, validation2, validation3, validation4, validation5);
+    }
+
+    /**
+     * Combines 6 {@code AsyncValidation}s into an {@link AsyncBuilder6 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @return an instance of AsyncBuilder6&lt;E,T1,T2,T3,T4,T5,T6&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6> AsyncBuilder6<E, T1, T2, T3, T4, T5, T6> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        return new AsyncBuilder6<>(validation1, validation2, validation3, validation4, validation5, validation6);
+    }
+
+    /**
+     * Combines 7 {@code AsyncValidation}s into an {@link AsyncBuilder7 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @return an instance of AsyncBuilder7&lt;E,T1,T2,T3,T4,T5,T6,T7&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7> AsyncBuilder7<E, T1, T2, T3, T4, T5, T6, T7> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        return new AsyncBuilder7<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7);
+    }
+
+    /**
+     * Combines 8 {@code AsyncValidation}s into an {@link AsyncBuilder8 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @return an instance of AsyncBuilder8&lt;E,T1,T2,T3,T4,T5,T6,T7,T8&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8> AsyncBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        return new AsyncBuilder8<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
+    }
+
+    /**
+     * Combines 9 {@code AsyncValidation}s into an {@link AsyncBuilder9 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @return an instance of AsyncBuilder9&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9> AsyncBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        return new AsyncBuilder9<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
+    }
+
+    /**
+     * Combines 10 {@code AsyncValidation}s into an {@link AsyncBuilder10 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @return an instance of AsyncBuilder10&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> AsyncBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        return new AsyncBuilder10<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
+    }
+
+    /**
+     * Combines 11 {@code AsyncValidation}s into an {@link AsyncBuilder11 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @return an instance of AsyncBuilder11&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> AsyncBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        return new AsyncBuilder11<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
+    }
+
+    /**
+     * Combines 12 {@code AsyncValidation}s into an {@link AsyncBuilder12 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @return an instance of AsyncBuilder12&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> AsyncBuilder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        return new AsyncBuilder12<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12);
+    }
+
+    /**
+     * Combines 13 {@code AsyncValidation}s into an {@link AsyncBuilder13 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @return an instance of AsyncBuilder13&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> AsyncBuilder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        return new AsyncBuilder13<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13);
+    }
+
+    /**
+     * Combines 14 {@code AsyncValidation}s into an {@link AsyncBuilder14 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @return an instance of AsyncBuilder14&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> AsyncBuilder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        return new AsyncBuilder14<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14);
+    }
+
+    /**
+     * Combines 15 {@code AsyncValidation}s into an {@link AsyncBuilder15 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @return an instance of AsyncBuilder15&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> AsyncBuilder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14, AsyncValidation<E, T15> validation15) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        return new AsyncBuilder15<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15);
+    }
+
+    /**
+     * Combines 16 {@code AsyncValidation}s into an {@link AsyncBuilder16 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @return an instance of AsyncBuilder16&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> AsyncBuilder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14, AsyncValidation<E, T15> validation15, AsyncValidation<E, T16> validation16) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        return new AsyncBuilder16<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16);
+    }
+
+    /**
+     * Combines 17 {@code AsyncValidation}s into an {@link AsyncBuilder17 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @return an instance of AsyncBuilder17&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> AsyncBuilder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14, AsyncValidation<E, T15> validation15, AsyncValidation<E, T16> validation16, AsyncValidation<E, T17> validation17) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        return new AsyncBuilder17<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17);
+    }
+
+    /**
+     * Combines 18 {@code AsyncValidation}s into an {@link AsyncBuilder18 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @return an instance of AsyncBuilder18&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> AsyncBuilder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14, AsyncValidation<E, T15> validation15, AsyncValidation<E, T16> validation16, AsyncValidation<E, T17> validation17, AsyncValidation<E, T18> validation18) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        return new AsyncBuilder18<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18);
+    }
+
+    /**
+     * Combines 19 {@code AsyncValidation}s into an {@link AsyncBuilder19 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param <T19>        type of 19 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @return an instance of AsyncBuilder19&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> AsyncBuilder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14, AsyncValidation<E, T15> validation15, AsyncValidation<E, T16> validation16, AsyncValidation<E, T17> validation17, AsyncValidation<E, T18> validation18, AsyncValidation<E, T19> validation19) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        return new AsyncBuilder19<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19);
+    }
+
+    /**
+     * Combines 20 {@code AsyncValidation}s into an {@link AsyncBuilder20 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param <T19>        type of 19 valid value
+     * @param <T20>        type of 20 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @return an instance of AsyncBuilder20&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> AsyncBuilder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14, AsyncValidation<E, T15> validation15, AsyncValidation<E, T16> validation16, AsyncValidation<E, T17> validation17, AsyncValidation<E, T18> validation18, AsyncValidation<E, T19> validation19, AsyncValidation<E, T20> validation20) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        return new AsyncBuilder20<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20);
+    }
+
+    /**
+     * Combines 21 {@code AsyncValidation}s into an {@link AsyncBuilder21 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param <T19>        type of 19 valid value
+     * @param <T20>        type of 20 valid value
+     * @param <T21>        type of 21 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @param validation21 21 validation
+     * @return an instance of AsyncBuilder21&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20,T21&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> AsyncBuilder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14, AsyncValidation<E, T15> validation15, AsyncValidation<E, T16> validation16, AsyncValidation<E, T17> validation17, AsyncValidation<E, T18> validation18, AsyncValidation<E, T19> validation19, AsyncValidation<E, T20> validation20, AsyncValidation<E, T21> validation21) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        Objects.requireNonNull(validation21, "validation21 is null");
+        return new AsyncBuilder21<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21);
+    }
+
+    /**
+     * Combines 22 {@code AsyncValidation}s into an {@link AsyncBuilder22 }, which completes once all of them have.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param <T19>        type of 19 valid value
+     * @param <T20>        type of 20 valid value
+     * @param <T21>        type of 21 valid value
+     * @param <T22>        type of 22 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @param validation21 21 validation
+     * @param validation22 22 validation
+     * @return an instance of AsyncBuilder22&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20,T21,T22&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> AsyncBuilder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> combine(AsyncValidation<E, T1> validation1, AsyncValidation<E, T2> validation2, AsyncValidation<E, T3> validation3, AsyncValidation<E, T4> validation4, AsyncValidation<E, T5> validation5, AsyncValidation<E, T6> validation6, AsyncValidation<E, T7> validation7, AsyncValidation<E, T8> validation8, AsyncValidation<E, T9> validation9, AsyncValidation<E, T10> validation10, AsyncValidation<E, T11> validation11, AsyncValidation<E, T12> validation12, AsyncValidation<E, T13> validation13, AsyncValidation<E, T14> validation14, AsyncValidation<E, T15> validation15, AsyncValidation<E, T16> validation16, AsyncValidation<E, T17> validation17, AsyncValidation<E, T18> validation18, AsyncValidation<E, T19> validation19, AsyncValidation<E, T20> validation20, AsyncValidation<E, T21> validation21, AsyncValidation<E, T22> validation22) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        Objects.requireNonNull(validation21, "validation21 is null");
+        Objects.requireNonNull(validation22, "validation22 is null");
+        return new AsyncBuilder22<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21, validation22);
+    }
+}
@@ -1,39 +1,367 @@
 package io.disc99.validation;
 
 import io.disc99.function.*;
+import io.disc99.validation.Validation.Lazy;
+
+import static io.disc99.validation.Validation.lazy;
 import static io.disc99.validation.Validation.valid;
 
 import java.util.function.BiFunction;
 
 final class Builders {
 
+    /**
+     * Collects the violations of the given validations into a single {@code Invalid}, in argument order.
+     * Only called once at least one of the validations is known to be invalid.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <E, R> Validation<E, R> invalidOf(Validation<E, ?>... validations) {
+        return invalidOf(Violations.defaultLimit(), validations);
+    }
+
+    /**
+     * Same as {@link #invalidOf(Validation[])}, keeping at most {@code limit} violations.
+     */
+    @SafeVarargs
+    static <E, R> Validation<E, R> invalidOf(int limit, Validation<E, ?>... validations) {
+        Violations<E> violations = null;
+        for (Validation<E, ?> validation : validations) {
+            violations = Violations.append(violations, validation, limit);
+        }
+        return violations.toInvalid();
+    }
+
+    /**
+     * Applies {@code f} to the values if every validation is valid, otherwise collects the violations in argument
+     * order, keeping at most {@code limit} of them. The shared evaluator behind {@code combine(...).apply(f)} and {@code accumulate}. When every
+     * validation is valid, it allocates nothing but the result; otherwise it allocates the argument array of
+     * {@link #invalidOf}, a rope node per invalid validation after the first, and the {@code Invalid}.
+     * If any of the validations is {@link Lazy}, so is the result, and no validation is forced before it is.
+     */
+    static <E, R, T1, T2> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, BiFunction<T1, T2, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, f));
+        }
+        return evaluateNow(limit, v1, v2, f);
+    }
+
+    private static <E, R, T1, T2> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, BiFunction<T1, T2, R> f) {
+        if (v1.isValid() && v2.isValid()) {
+            return valid(f.apply(v1.get(), v2.get()));
+        }
+        return invalidOf(limit, v1, v2);
+    }
+
+    static <E, R, T1, T2, T3> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Function3<T1, T2, T3, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, f);
+    }
+
+    private static <E, R, T1, T2, T3> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Function3<T1, T2, T3, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get()));
+        }
+        return invalidOf(limit, v1, v2, v3);
+    }
+
+    static <E, R, T1, T2, T3, T4> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Function4<T1, T2, T3, T4, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Function4<T1, T2, T3, T4, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Function5<T1, T2, T3, T4, T5, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Function5<T1, T2, T3, T4, T5, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Function6<T1, T2, T3, T4, T5, T6, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Function6<T1, T2, T3, T4, T5, T6, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy || v15 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid() && v15.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get(), v15.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy || v15 instanceof Lazy || v16 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid() && v15.isValid() && v16.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get(), v15.get(), v16.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Function17<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy || v15 instanceof Lazy || v16 instanceof Lazy || v17 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Function17<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid() && v15.isValid() && v16.isValid() && v17.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get(), v15.get(), v16.get(), v17.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Function18<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy || v15 instanceof Lazy || v16 instanceof Lazy || v17 instanceof Lazy || v18 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Function18<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid() && v15.isValid() && v16.isValid() && v17.isValid() && v18.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get(), v15.get(), v16.get(), v17.get(), v18.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Function19<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy || v15 instanceof Lazy || v16 instanceof Lazy || v17 instanceof Lazy || v18 instanceof Lazy || v19 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Function19<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid() && v15.isValid() && v16.isValid() && v17.isValid() && v18.isValid() && v19.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get(), v15.get(), v16.get(), v17.get(), v18.get(), v19.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Function20<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy || v15 instanceof Lazy || v16 instanceof Lazy || v17 instanceof Lazy || v18 instanceof Lazy || v19 instanceof Lazy || v20 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Function20<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid() && v15.isValid() && v16.isValid() && v17.isValid() && v18.isValid() && v19.isValid() && v20.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get(), v15.get(), v16.get(), v17.get(), v18.get(), v19.get(), v20.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Function21<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy || v15 instanceof Lazy || v16 instanceof Lazy || v17 instanceof Lazy || v18 instanceof Lazy || v19 instanceof Lazy || v20 instanceof Lazy || v21 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Function21<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid() && v15.isValid() && v16.isValid() && v17.isValid() && v18.isValid() && v19.isValid() && v20.isValid() && v21.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get(), v15.get(), v16.get(), v17.get(), v18.get(), v19.get(), v20.get(), v21.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21);
+    }
+
+    static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> Validation<E, R> evaluate(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Validation<E, T22> v22, Function22<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, R> f) {
+        if (v1 instanceof Lazy || v2 instanceof Lazy || v3 instanceof Lazy || v4 instanceof Lazy || v5 instanceof Lazy || v6 instanceof Lazy || v7 instanceof Lazy || v8 instanceof Lazy || v9 instanceof Lazy || v10 instanceof Lazy || v11 instanceof Lazy || v12 instanceof Lazy || v13 instanceof Lazy || v14 instanceof Lazy || v15 instanceof Lazy || v16 instanceof Lazy || v17 instanceof Lazy || v18 instanceof Lazy || v19 instanceof Lazy || v20 instanceof Lazy || v21 instanceof Lazy || v22 instanceof Lazy) {
+            return lazy(() -> evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, f));
+        }
+        return evaluateNow(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, f);
+    }
+
+    private static <E, R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> Validation<E, R> evaluateNow(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Validation<E, T22> v22, Function22<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, R> f) {
+        if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid() && v12.isValid() && v13.isValid() && v14.isValid() && v15.isValid() && v16.isValid() && v17.isValid() && v18.isValid() && v19.isValid() && v20.isValid() && v21.isValid() && v22.isValid()) {
+            return valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get(), v12.get(), v13.get(), v14.get(), v15.get(), v16.get(), v17.get(), v18.get(), v19.get(), v20.get(), v21.get(), v22.get()));
+        }
+        return invalidOf(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22);
+    }
+
     static final class Builder2<E, T1, T2> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
 
-        Builder2(Validation<E, T1> v1, Validation<E, T2> v2) {
+        Builder2(int limit, Validation<E, T1> v1, Validation<E, T2> v2) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
 
         }
 
         public <R> Validation<E, R> apply(BiFunction<T1, T2, R> f) {
-            return v2.apply(v1.apply(valid(
-                    t1 -> t2 -> f.apply(t1, t2)
-            )));
+            return evaluate(limit, v1, v2, f);
         }
 
         public <T3> Builder3<E, T1, T2, T3> combine(Validation<E, T3> v3) {
-            return new Builder3<>(v1 ,v2 ,v3);
+            return new Builder3<>(limit, v1 ,v2 ,v3);
         }
     }
 
     static final class Builder3<E, T1, T2, T3> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
 
-        Builder3(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3) {
+        Builder3(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -41,23 +369,23 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function3<T1, T2, T3, R> f) {
-            return v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> f.apply(t1, t2, t3)
-            ))));
+            return evaluate(limit, v1, v2, v3, f);
         }
 
         public <T4> Builder4<E, T1, T2, T3, T4> combine(Validation<E, T4> v4) {
-            return new Builder4<>(v1 ,v2 ,v3 ,v4);
+            return new Builder4<>(limit, v1 ,v2 ,v3 ,v4);
         }
     }
 
     static final class Builder4<E, T1, T2, T3, T4> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
         private Validation<E, T4> v4;
 
-        Builder4(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4) {
+        Builder4(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -66,24 +394,24 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function4<T1, T2, T3, T4, R> f) {
-            return v4.apply(v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> t4 -> f.apply(t1, t2, t3, t4)
-            )))));
+            return evaluate(limit, v1, v2, v3, v4, f);
         }
 
         public <T5> Builder5<E, T1, T2, T3, T4, T5> combine(Validation<E, T5> v5) {
-            return new Builder5<>(v1 ,v2 ,v3 ,v4 ,v5);
+            return new Builder5<>(limit, v1 ,v2 ,v3 ,v4 ,v5);
         }
     }
 
     static final class Builder5<E, T1, T2, T3, T4, T5> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
         private Validation<E, T4> v4;
         private Validation<E, T5> v5;
 
-        Builder5(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5) {
+        Builder5(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -93,17 +421,16 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function5<T1, T2, T3, T4, T5, R> f) {
-            return v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> t4 -> t5 -> f.apply(t1, t2, t3, t4, t5)
-            ))))));
+            return evaluate(limit, v1, v2, v3, v4, v5, f);
         }
 
         public <T6> Builder6<E, T1, T2, T3, T4, T5, T6> combine(Validation<E, T6> v6) {
-            return new Builder6<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6);
+            return new Builder6<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6);
         }
     }
 
     static final class Builder6<E, T1, T2, T3, T4, T5, T6> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
@@ -111,7 +438,8 @@ final class Builders {
         private Validation<E, T5> v5;
         private Validation<E, T6> v6;
 
-        Builder6(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6) {
+        Builder6(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -122,17 +450,16 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function6<T1, T2, T3, T4, T5, T6, R> f) {
-            return v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> f.apply(t1, t2, t3, t4, t5, t6)
-            )))))));
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, f);
         }
 
         public <T7> Builder7<E, T1, T2, T3, T4, T5, T6, T7> combine(Validation<E, T7> v7) {
-            return new Builder7<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7);
+            return new Builder7<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7);
         }
     }
 
     static final class Builder7<E, T1, T2, T3, T4, T5, T6, T7> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
@@ -141,7 +468,8 @@ final class Builders {
         private Validation<E, T6> v6;
         private Validation<E, T7> v7;
 
-        Builder7(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7) {
+        Builder7(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -153,17 +481,16 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
-            return v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> f.apply(t1, t2, t3, t4, t5, t6, t7)
-            ))))))));
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, f);
         }
 
         public <T8> Builder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combine(Validation<E, T8> v8) {
-            return new Builder8<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8);
+            return new Builder8<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8);
         }
     }
 
     static final class Builder8<E, T1, T2, T3, T4, T5, T6, T7, T8> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
@@ -173,7 +500,8 @@ final class Builders {
         private Validation<E, T7> v7;
         private Validation<E, T8> v8;
 
-        Builder8(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8) {
+        Builder8(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -186,17 +514,16 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
-            return v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8)
-            )))))))));
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, f);
         }
 
         public <T9> Builder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> combine(Validation<E, T9> v9) {
-            return new Builder9<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9);
+            return new Builder9<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9);
         }
     }
 
     static final class Builder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
@@ -207,7 +534,8 @@ final class Builders {
         private Validation<E, T8> v8;
         private Validation<E, T9> v9;
 
-        Builder9(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9) {
+        Builder9(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -221,17 +549,16 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
-            return v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9)
-            ))))))))));
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, f);
         }
 
         public <T10> Builder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combine(Validation<E, T10> v10) {
-            return new Builder10<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10);
+            return new Builder10<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10);
         }
     }
 
     static final class Builder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
@@ -243,7 +570,8 @@ final class Builders {
         private Validation<E, T9> v9;
         private Validation<E, T10> v10;
 
-        Builder10(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10) {
+        Builder10(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -258,17 +586,16 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
-            return v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10)
-            )))))))))));
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, f);
         }
 
         public <T11> Builder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> combine(Validation<E, T11> v11) {
-            return new Builder11<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11);
+            return new Builder11<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11);
         }
     }
 
     static final class Builder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> {
+        private final int limit;
         private Validation<E, T1> v1;
         private Validation<E, T2> v2;
         private Validation<E, T3> v3;
@@ -281,7 +608,8 @@ final class Builders {
         private Validation<E, T10> v10;
         private Validation<E, T11> v11;
 
-        Builder11(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11) {
+        Builder11(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11) {
+            this.limit = limit;
             this.v1 = v1;
             this.v2 = v2;
             this.v3 = v3;
@@ -297,570 +625,568 @@ final class Builders {
         }
 
         public <R> Validation<E, R> apply(Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
-            return v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11)
-            ))))))))))));
-        }
-
-//        public <T12> Builder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> combine(Validation<E, T12> v12) {
-//            return new Builder12<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12);
-//        }
-    }
-//
-//    static final class Builder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//
-//        Builder12(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> f) {
-//            return v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12)
-//            )))))))))))));
-//        }
-//
-//        public <T13> Builder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> combine(Validation<E, T13> v13) {
-//            return new Builder13<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13);
-//        }
-//    }
-//
-//    static final class Builder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//
-//        Builder13(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> f) {
-//            return v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13)
-//            ))))))))))))));
-//        }
-//
-//        public <T14> Builder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> combine(Validation<E, T14> v14) {
-//            return new Builder14<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14);
-//        }
-//    }
-//
-//    static final class Builder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//
-//        Builder14(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> f) {
-//            return v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14)
-//            )))))))))))))));
-//        }
-//
-//        public <T15> Builder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> combine(Validation<E, T15> v15) {
-//            return new Builder15<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15);
-//        }
-//    }
-//
-//    static final class Builder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//        private Validation<E, T15> v15;
-//
-//        Builder15(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//            this.v15 = v15;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> f) {
-//            return v15.apply(v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> t15 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15)
-//            ))))))))))))))));
-//        }
-//
-//        public <T16> Builder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> combine(Validation<E, T16> v16) {
-//            return new Builder16<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16);
-//        }
-//    }
-//
-//    static final class Builder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//        private Validation<E, T15> v15;
-//        private Validation<E, T16> v16;
-//
-//        Builder16(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//            this.v15 = v15;
-//            this.v16 = v16;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> f) {
-//            return v16.apply(v15.apply(v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> t15 -> t16 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16)
-//            )))))))))))))))));
-//        }
-//
-//        public <T17> Builder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> combine(Validation<E, T17> v17) {
-//            return new Builder17<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17);
-//        }
-//    }
-//
-//    static final class Builder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//        private Validation<E, T15> v15;
-//        private Validation<E, T16> v16;
-//        private Validation<E, T17> v17;
-//
-//        Builder17(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//            this.v15 = v15;
-//            this.v16 = v16;
-//            this.v17 = v17;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function17<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, R> f) {
-//            return v17.apply(v16.apply(v15.apply(v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> t15 -> t16 -> t17 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17)
-//            ))))))))))))))))));
-//        }
-//
-//        public <T18> Builder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> combine(Validation<E, T18> v18) {
-//            return new Builder18<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18);
-//        }
-//    }
-//
-//    static final class Builder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//        private Validation<E, T15> v15;
-//        private Validation<E, T16> v16;
-//        private Validation<E, T17> v17;
-//        private Validation<E, T18> v18;
-//
-//        Builder18(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//            this.v15 = v15;
-//            this.v16 = v16;
-//            this.v17 = v17;
-//            this.v18 = v18;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function18<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, R> f) {
-//            return v18.apply(v17.apply(v16.apply(v15.apply(v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> t15 -> t16 -> t17 -> t18 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18)
-//            )))))))))))))))))));
-//        }
-//
-//        public <T19> Builder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> combine(Validation<E, T19> v19) {
-//            return new Builder19<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18 ,v19);
-//        }
-//    }
-//
-//    static final class Builder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//        private Validation<E, T15> v15;
-//        private Validation<E, T16> v16;
-//        private Validation<E, T17> v17;
-//        private Validation<E, T18> v18;
-//        private Validation<E, T19> v19;
-//
-//        Builder19(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//            this.v15 = v15;
-//            this.v16 = v16;
-//            this.v17 = v17;
-//            this.v18 = v18;
-//            this.v19 = v19;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function19<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, R> f) {
-//            return v19.apply(v18.apply(v17.apply(v16.apply(v15.apply(v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> t15 -> t16 -> t17 -> t18 -> t19 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19)
-//            ))))))))))))))))))));
-//        }
-//
-//        public <T20> Builder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> combine(Validation<E, T20> v20) {
-//            return new Builder20<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18 ,v19 ,v20);
-//        }
-//    }
-//
-//    static final class Builder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//        private Validation<E, T15> v15;
-//        private Validation<E, T16> v16;
-//        private Validation<E, T17> v17;
-//        private Validation<E, T18> v18;
-//        private Validation<E, T19> v19;
-//        private Validation<E, T20> v20;
-//
-//        Builder20(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//            this.v15 = v15;
-//            this.v16 = v16;
-//            this.v17 = v17;
-//            this.v18 = v18;
-//            this.v19 = v19;
-//            this.v20 = v20;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function20<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, R> f) {
-//            return v20.apply(v19.apply(v18.apply(v17.apply(v16.apply(v15.apply(v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> t15 -> t16 -> t17 -> t18 -> t19 -> t20 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20)
-//            )))))))))))))))))))));
-//        }
-//
-//        public <T21> Builder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> combine(Validation<E, T21> v21) {
-//            return new Builder21<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18 ,v19 ,v20 ,v21);
-//        }
-//    }
-//
-//    static final class Builder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//        private Validation<E, T15> v15;
-//        private Validation<E, T16> v16;
-//        private Validation<E, T17> v17;
-//        private Validation<E, T18> v18;
-//        private Validation<E, T19> v19;
-//        private Validation<E, T20> v20;
-//        private Validation<E, T21> v21;
-//
-//        Builder21(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//            this.v15 = v15;
-//            this.v16 = v16;
-//            this.v17 = v17;
-//            this.v18 = v18;
-//            this.v19 = v19;
-//            this.v20 = v20;
-//            this.v21 = v21;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function21<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, R> f) {
-//            return v21.apply(v20.apply(v19.apply(v18.apply(v17.apply(v16.apply(v15.apply(v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> t15 -> t16 -> t17 -> t18 -> t19 -> t20 -> t21 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21)
-//            ))))))))))))))))))))));
-//        }
-//
-//        public <T22> Builder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> combine(Validation<E, T22> v22) {
-//            return new Builder22<>(v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18 ,v19 ,v20 ,v21 ,v22);
-//        }
-//    }
-//
-//    static final class Builder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> {
-//        private Validation<E, T1> v1;
-//        private Validation<E, T2> v2;
-//        private Validation<E, T3> v3;
-//        private Validation<E, T4> v4;
-//        private Validation<E, T5> v5;
-//        private Validation<E, T6> v6;
-//        private Validation<E, T7> v7;
-//        private Validation<E, T8> v8;
-//        private Validation<E, T9> v9;
-//        private Validation<E, T10> v10;
-//        private Validation<E, T11> v11;
-//        private Validation<E, T12> v12;
-//        private Validation<E, T13> v13;
-//        private Validation<E, T14> v14;
-//        private Validation<E, T15> v15;
-//        private Validation<E, T16> v16;
-//        private Validation<E, T17> v17;
-//        private Validation<E, T18> v18;
-//        private Validation<E, T19> v19;
-//        private Validation<E, T20> v20;
-//        private Validation<E, T21> v21;
-//        private Validation<E, T22> v22;
-//
-//        Builder22(Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Validation<E, T22> v22) {
-//            this.v1 = v1;
-//            this.v2 = v2;
-//            this.v3 = v3;
-//            this.v4 = v4;
-//            this.v5 = v5;
-//            this.v6 = v6;
-//            this.v7 = v7;
-//            this.v8 = v8;
-//            this.v9 = v9;
-//            this.v10 = v10;
-//            this.v11 = v11;
-//            this.v12 = v12;
-//            this.v13 = v13;
-//            this.v14 = v14;
-//            this.v15 = v15;
-//            this.v16 = v16;
-//            this.v17 = v17;
-//            this.v18 = v18;
-//            this.v19 = v19;
-//            this.v20 = v20;
-//            this.v21 = v21;
-//            this.v22 = v22;
-//
-//        }
-//
-//        public <R> Validation<E, R> apply(Function22<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, R> f) {
-//            return v22.apply(v21.apply(v20.apply(v19.apply(v18.apply(v17.apply(v16.apply(v15.apply(v14.apply(v13.apply(v12.apply(v11.apply(v10.apply(v9.apply(v8.apply(v7.apply(v6.apply(v5.apply(v4.apply(v3.apply(v2.apply(v1.apply(valid(
-//                    t1 -> t2 -> t3 -> t4 -> t5 -> t6 -> t7 -> t8 -> t9 -> t10 -> t11 -> t12 -> t13 -> t14 -> t15 -> t16 -> t17 -> t18 -> t19 -> t20 -> t21 -> t22 -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8, t9, t10, t11, t12, t13, t14, t15, t16, t17, t18, t19, t20, t21, t22)
-//            )))))))))))))))))))))));
-//        }
-//    }
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, f);
+        }
+
+        public <T12> Builder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> combine(Validation<E, T12> v12) {
+            return new Builder12<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12);
+        }
+    }
+
+    static final class Builder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+
+        Builder12(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+
+        }
+
+        public <R> Validation<E, R> apply(Function12<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, f);
+        }
+
+        public <T13> Builder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> combine(Validation<E, T13> v13) {
+            return new Builder13<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13);
+        }
+    }
+
+    static final class Builder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+
+        Builder13(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+
+        }
+
+        public <R> Validation<E, R> apply(Function13<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, f);
+        }
+
+        public <T14> Builder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> combine(Validation<E, T14> v14) {
+            return new Builder14<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14);
+        }
+    }
+
+    static final class Builder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+
+        Builder14(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+
+        }
+
+        public <R> Validation<E, R> apply(Function14<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, f);
+        }
+
+        public <T15> Builder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> combine(Validation<E, T15> v15) {
+            return new Builder15<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15);
+        }
+    }
+
+    static final class Builder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+        private Validation<E, T15> v15;
+
+        Builder15(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+
+        }
+
+        public <R> Validation<E, R> apply(Function15<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, f);
+        }
+
+        public <T16> Builder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> combine(Validation<E, T16> v16) {
+            return new Builder16<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16);
+        }
+    }
+
+    static final class Builder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+        private Validation<E, T15> v15;
+        private Validation<E, T16> v16;
+
+        Builder16(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+
+        }
+
+        public <R> Validation<E, R> apply(Function16<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, f);
+        }
+
+        public <T17> Builder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> combine(Validation<E, T17> v17) {
+            return new Builder17<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17);
+        }
+    }
+
+    static final class Builder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+        private Validation<E, T15> v15;
+        private Validation<E, T16> v16;
+        private Validation<E, T17> v17;
+
+        Builder17(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+
+        }
+
+        public <R> Validation<E, R> apply(Function17<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, f);
+        }
+
+        public <T18> Builder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> combine(Validation<E, T18> v18) {
+            return new Builder18<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18);
+        }
+    }
+
+    static final class Builder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+        private Validation<E, T15> v15;
+        private Validation<E, T16> v16;
+        private Validation<E, T17> v17;
+        private Validation<E, T18> v18;
+
+        Builder18(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+
+        }
+
+        public <R> Validation<E, R> apply(Function18<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, f);
+        }
+
+        public <T19> Builder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> combine(Validation<E, T19> v19) {
+            return new Builder19<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18 ,v19);
+        }
+    }
+
+    static final class Builder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+        private Validation<E, T15> v15;
+        private Validation<E, T16> v16;
+        private Validation<E, T17> v17;
+        private Validation<E, T18> v18;
+        private Validation<E, T19> v19;
+
+        Builder19(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+            this.v19 = v19;
+
+        }
+
+        public <R> Validation<E, R> apply(Function19<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, f);
+        }
+
+        public <T20> Builder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> combine(Validation<E, T20> v20) {
+            return new Builder20<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18 ,v19 ,v20);
+        }
+    }
+
+    static final class Builder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+        private Validation<E, T15> v15;
+        private Validation<E, T16> v16;
+        private Validation<E, T17> v17;
+        private Validation<E, T18> v18;
+        private Validation<E, T19> v19;
+        private Validation<E, T20> v20;
+
+        Builder20(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+            this.v19 = v19;
+            this.v20 = v20;
+
+        }
+
+        public <R> Validation<E, R> apply(Function20<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, f);
+        }
+
+        public <T21> Builder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> combine(Validation<E, T21> v21) {
+            return new Builder21<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18 ,v19 ,v20 ,v21);
+        }
+    }
+
+    static final class Builder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+        private Validation<E, T15> v15;
+        private Validation<E, T16> v16;
+        private Validation<E, T17> v17;
+        private Validation<E, T18> v18;
+        private Validation<E, T19> v19;
+        private Validation<E, T20> v20;
+        private Validation<E, T21> v21;
+
+        Builder21(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+            this.v19 = v19;
+            this.v20 = v20;
+            this.v21 = v21;
+
+        }
+
+        public <R> Validation<E, R> apply(Function21<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, f);
+        }
+
+        public <T22> Builder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> combine(Validation<E, T22> v22) {
+            return new Builder22<>(limit, v1 ,v2 ,v3 ,v4 ,v5 ,v6 ,v7 ,v8 ,v9 ,v10 ,v11 ,v12 ,v13 ,v14 ,v15 ,v16 ,v17 ,v18 ,v19 ,v20 ,v21 ,v22);
+        }
+    }
+
+    static final class Builder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> {
+        private final int limit;
+        private Validation<E, T1> v1;
+        private Validation<E, T2> v2;
+        private Validation<E, T3> v3;
+        private Validation<E, T4> v4;
+        private Validation<E, T5> v5;
+        private Validation<E, T6> v6;
+        private Validation<E, T7> v7;
+        private Validation<E, T8> v8;
+        private Validation<E, T9> v9;
+        private Validation<E, T10> v10;
+        private Validation<E, T11> v11;
+        private Validation<E, T12> v12;
+        private Validation<E, T13> v13;
+        private Validation<E, T14> v14;
+        private Validation<E, T15> v15;
+        private Validation<E, T16> v16;
+        private Validation<E, T17> v17;
+        private Validation<E, T18> v18;
+        private Validation<E, T19> v19;
+        private Validation<E, T20> v20;
+        private Validation<E, T21> v21;
+        private Validation<E, T22> v22;
+
+        Builder22(int limit, Validation<E, T1> v1, Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Validation<E, T22> v22) {
+            this.limit = limit;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+            this.v12 = v12;
+            this.v13 = v13;
+            this.v14 = v14;
+            this.v15 = v15;
+            this.v16 = v16;
+            this.v17 = v17;
+            this.v18 = v18;
+            this.v19 = v19;
+            this.v20 = v20;
+            this.v21 = v21;
+            this.v22 = v22;
+
+        }
+
+        public <R> Validation<E, R> apply(Function22<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, R> f) {
+            return evaluate(limit, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, f);
+        }
+    }
 }
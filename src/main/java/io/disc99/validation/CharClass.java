@@ -0,0 +1,231 @@
+package io.disc99.validation;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * A set of code points, precomputed into a bit table for the Basic Multilingual Plane.
+ *
+ * Membership of a BMP character costs one table lookup; supplementary code points fall back to a predicate.
+ * {@link #allowOnly} and {@link #forbid} scan an input once and report the offending characters, once each,
+ * in the order they first occur. Immutable and thread-safe.
+ *
+ * <pre>{@code
+ * static final CharClass NAME = CharClass.range('a', 'z').union(CharClass.range('A', 'Z')).union(CharClass.of(" "));
+ *
+ * Validation<Violation, String> name = NAME.allowOnly(input);
+ * }</pre>
+ */
+public final class CharClass implements IntPredicate {
+
+    private static final int BMP = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+
+    private static final IntPredicate NONE = c -> false;
+
+    private final long[] bits;
+    private final IntPredicate supplementary;
+
+    private CharClass(long[] bits, IntPredicate supplementary) {
+        this.bits = bits;
+        this.supplementary = supplementary;
+    }
+
+    /**
+     * @param chars the members of the class
+     * @return a class of the code points of {@code chars}
+     * @throws NullPointerException if chars is null
+     */
+    public static CharClass of(CharSequence chars) {
+        Objects.requireNonNull(chars, "chars is null");
+        long[] bits = new long[BMP >>> 6];
+        int[] others = chars.codePoints().filter(c -> c >= BMP).sorted().distinct().toArray();
+        chars.codePoints().filter(c -> c < BMP).forEach(c -> bits[c >>> 6] |= 1L << c);
+        return new CharClass(bits, others.length == 0 ? NONE : c -> Arrays.binarySearch(others, c) >= 0);
+    }
+
+    /**
+     * @param from first code point, inclusive
+     * @param to   last code point, inclusive
+     * @return a class of the code points from {@code from} to {@code to}
+     * @throws IllegalArgumentException if the range is not valid
+     */
+    public static CharClass range(int from, int to) {
+        if (from < 0 || from > to || to > Character.MAX_CODE_POINT) {
+            throw new IllegalArgumentException("invalid range: " + from + ".." + to);
+        }
+        long[] bits = new long[BMP >>> 6];
+        for (int c = from; c <= to && c < BMP; c++) {
+            bits[c >>> 6] |= 1L << c;
+        }
+        return new CharClass(bits, to < BMP ? NONE : c -> c >= from && c <= to);
+    }
+
+    /**
+     * Tabulates {@code predicate} over the BMP once; supplementary code points still call it.
+     *
+     * @param predicate accepts the members of the class
+     * @return a class of the code points accepted by {@code predicate}
+     * @throws NullPointerException if predicate is null
+     */
+    public static CharClass matching(IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        long[] bits = new long[BMP >>> 6];
+        for (int c = 0; c < BMP; c++) {
+            if (predicate.test(c)) {
+                bits[c >>> 6] |= 1L << c;
+            }
+        }
+        return new CharClass(bits, predicate);
+    }
+
+    @Override
+    public boolean test(int codePoint) {
+        return codePoint < BMP ? codePoint >= 0 && (bits[codePoint >>> 6] & (1L << codePoint)) != 0 : supplementary.test(codePoint);
+    }
+
+    /**
+     * @param other another class
+     * @return a class of the code points of this class or {@code other}
+     */
+    public CharClass union(CharClass other) {
+        Objects.requireNonNull(other, "other is null");
+        long[] result = bits.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] |= other.bits[i];
+        }
+        IntPredicate s1 = supplementary;
+        IntPredicate s2 = other.supplementary;
+        return new CharClass(result, s1 == NONE ? s2 : s2 == NONE ? s1 : c -> s1.test(c) || s2.test(c));
+    }
+
+    /**
+     * @return a class of the code points not in this class
+     */
+    @Override
+    public CharClass negate() {
+        long[] result = bits.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ~result[i];
+        }
+        IntPredicate s = supplementary;
+        return new CharClass(result, c -> !s.test(c));
+    }
+
+    /**
+     * Reports {@link Rules#CHARSET} with every character of {@code input} that is not in this class.
+     *
+     * @param <S>   type of the input
+     * @param input the character sequence to validate
+     * @return {@code Valid(input)} if every character is in this class
+     */
+    public <S extends CharSequence> Validation<Violation, S> allowOnly(S input) {
+        return check(input, false);
+    }
+
+    /**
+     * Reports {@link Rules#CHARSET} with every character of {@code input} that is in this class.
+     *
+     * @param <S>   type of the input
+     * @param input the character sequence to validate
+     * @return {@code Valid(input)} if no character is in this class
+     */
+    public <S extends CharSequence> Validation<Violation, S> forbid(S input) {
+        return check(input, true);
+    }
+
+    private <S extends CharSequence> Validation<Violation, S> check(S input, boolean member) {
+        if (input == null) {
+            return Validation.invalidConstant(Rules.NOT_NULL.with());
+        }
+        Offenders offenders = null;
+        int n = input.length();
+        for (int i = 0; i < n; ) {
+            char ch = input.charAt(i);
+            int c = ch;
+            if (Character.isHighSurrogate(ch) && i + 1 < n && Character.isLowSurrogate(input.charAt(i + 1))) {
+                c = Character.toCodePoint(ch, input.charAt(i + 1));
+                i += 2;
+            } else {
+                i++;
+            }
+            if (test(c) == member) {
+                if (offenders == null) {
+                    offenders = new Offenders();
+                }
+                offenders.add(c);
+            }
+        }
+        return offenders == null ? Validation.valid(input) : Validation.invalid(offenders.toViolation());
+    }
+
+    /**
+     * Distinct offending code points in first-seen order, each checked for duplicates in O(1): ASCII with
+     * two masks, anything else with a small open-addressing set, allocated on the first non-ASCII offender
+     * and doubled whenever it gets half full.
+     */
+    static final class Offenders {
+        private long ascii0;
+        private long ascii1;
+        private int[] others;
+        private int otherCount;
+        private final StringBuilder chars = new StringBuilder();
+
+        void add(int c) {
+            if (c < 64) {
+                if ((ascii0 & (1L << c)) != 0) {
+                    return;
+                }
+                ascii0 |= 1L << c;
+            } else if (c < 128) {
+                if ((ascii1 & (1L << c)) != 0) {
+                    return;
+                }
+                ascii1 |= 1L << c;
+            } else if (!addOther(c)) {
+                return;
+            }
+            chars.appendCodePoint(c);
+        }
+
+        /**
+         * Adds a code point of at least 128, so 0 can mark empty slots.
+         */
+        private boolean addOther(int c) {
+            if (others == null) {
+                others = new int[8];
+            } else if (otherCount * 2 >= others.length) {
+                int[] old = others;
+                others = new int[old.length * 2];
+                for (int o : old) {
+                    if (o != 0) {
+                        others[slot(others, o)] = o;
+                    }
+                }
+            }
+            int slot = slot(others, c);
+            if (others[slot] == c) {
+                return false;
+            }
+            others[slot] = c;
+            otherCount++;
+            return true;
+        }
+
+        /**
+         * @return the slot holding {@code c}, or the empty slot where it belongs
+         */
+        private static int slot(int[] table, int c) {
+            int mask = table.length - 1;
+            int i = (c * 0x9E3779B9) >>> 16 & mask;
+            while (table[i] != 0 && table[i] != c) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        Violation toViolation() {
+            return Rules.CHARSET.with(chars.toString());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.disc99.validation;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of {@link Violation}s stored as an {@code int[]} of interned {@link Violation.Code#id() code ids}.
+ * Violations with parameters are kept as they are, in a second array holding only them, which their slot in
+ * the {@code int[]} points to.
+ *
+ * A retained report of parameterless violations costs four bytes per violation; {@link #get} returns the
+ * shared instance of such violations, or the original one for the others, so reading it allocates nothing. Use {@link #compact} on validations
+ * that are kept around, and {@link Violation#render} to turn them into messages at the edge.
+ */
+public final class CompactViolations extends AbstractList<Violation> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Violation[] NONE = new Violation[0];
+
+    /**
+     * The code id of each parameterless violation, or {@code -(k + 1)} for the k-th one with parameters.
+     */
+    private final int[] codes;
+    private final Violation[] parameterized;
+
+    private CompactViolations(int[] codes, Violation[] parameterized) {
+        this.codes = codes;
+        this.parameterized = parameterized;
+    }
+
+    /**
+     * @param violations the violations to copy
+     * @return a compact copy of {@code violations}
+     * @throws NullPointerException if violations is null
+     */
+    public static CompactViolations of(List<Violation> violations) {
+        Objects.requireNonNull(violations, "violations is null");
+        if (violations instanceof CompactViolations) {
+            return (CompactViolations) violations;
+        }
+        int count = 0;
+        for (Violation violation : violations) {
+            if (violation.paramCount() > 0) {
+                count++;
+            }
+        }
+        int[] codes = new int[violations.size()];
+        Violation[] parameterized = count == 0 ? NONE : new Violation[count];
+        int i = 0;
+        int k = 0;
+        for (Violation violation : violations) {
+            if (violation.paramCount() > 0) {
+                parameterized[k] = violation;
+                codes[i] = -(k + 1);
+                k++;
+            } else {
+                codes[i] = violation.code().id();
+            }
+            i++;
+        }
+        return new CompactViolations(codes, parameterized);
+    }
+
+    /**
+     * Gets the same validation, backed by compact violations if it is invalid.
+     *
+     * @param <T>        type of the value
+     * @param validation a validation with structured violations
+     * @return {@code validation} if it is valid, otherwise an {@code Invalid} backed by {@code CompactViolations}
+     * @throws NullPointerException if validation is null
+     */
+    public static <T> Validation<Violation, T> compact(Validation<Violation, T> validation) {
+        Objects.requireNonNull(validation, "validation is null");
+        if (validation.isValid()) {
+            return validation;
+        }
+        Violations<Violation> violations = Violations.of(validation);
+        return violations.withList(of(violations.toList())).toInvalid();
+    }
+
+    /**
+     * @param index index of a violation
+     * @return the code of the violation, without materialising it
+     */
+    public Violation.Code code(int index) {
+        int code = codes[index];
+        return code >= 0 ? Violation.Code.byId(code) : parameterized[-code - 1].code();
+    }
+
+    @Override
+    public Violation get(int index) {
+        int code = codes[index];
+        return code >= 0 ? Violation.of(Violation.Code.byId(code), Violation.NO_PARAMS) : parameterized[-code - 1];
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * Code ids are only meaningful within one JVM, so the serialized form is a plain list of violations.
+     */
+    private Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+}
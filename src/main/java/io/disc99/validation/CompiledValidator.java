@@ -0,0 +1,35 @@
+package io.disc99.validation;
+
+import java.util.function.Function;
+
+/**
+ * An immutable, thread-safe validator compiled from a {@link Schema}.
+ *
+ * {@code Schema.of(...).apply(f)} compiles to a flat, loop-based interpreter.
+ * {@code Schema.of(...).cloneTemplate(f)} instead instantiates an unrolled, straight-line template of the same
+ * arity; no code is generated. On Java 21 and later each schema gets its own copy of the template class, so
+ * that its call sites stay monomorphic; on Java 8 all schemas share the template. This is an experiment:
+ * compare both backends with {@code SchemaBenchmark} before relying on it.
+ *
+ * @param <A> type of the validated object
+ * @param <E> type of the violation
+ * @param <R> type of the result
+ */
+public abstract class CompiledValidator<A, E, R> implements Function<A, Validation<E, R>> {
+
+    CompiledValidator() {
+    }
+
+    /**
+     * Validates the given object.
+     *
+     * @param target the object to validate
+     * @return {@code Valid(result)} or {@code Invalid(violations)} in rule order
+     */
+    public abstract Validation<E, R> validate(A target);
+
+    @Override
+    public final Validation<E, R> apply(A target) {
+        return validate(target);
+    }
+}
@@ -0,0 +1,514 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.*;
+
+import static io.disc99.validation.PrimitiveBuilders.*;
+
+/**
+ * A {@link Validation} specialized for {@code double} values, so numeric checks do not box.
+ *
+ * @param <E> type of the violation
+ */
+public interface DoubleValidation<E> {
+
+    /**
+     * Creates a {@link Valid} that contains the given {@code value}.
+     *
+     * @param <E>   type of the violation
+     * @param value A value
+     * @return {@code Valid(value)}
+     */
+    static <E> DoubleValidation<E> valid(double value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Creates an {@link Invalid} that contains a copy of the given {@code violations}.
+     *
+     * @param <E>        type of the given {@code violations}
+     * @param violations An violations
+     * @return {@code Invalid(violations)}
+     * @throws NullPointerException if violations is null
+     */
+    static <E> DoubleValidation<E> invalid(List<E> violations) {
+        return new Invalid<>(Violations.of(violations));
+    }
+
+    /**
+     * Creates an {@link Invalid} that contains the given {@code violations}.
+     *
+     * @param <E>        type of the given {@code violations}
+     * @param violations An violations
+     * @return {@code Invalid(violations)}
+     * @throws NullPointerException if violations is null
+     */
+    @SafeVarargs
+    static <E> DoubleValidation<E> invalid(E... violations) {
+        return invalid(Arrays.asList(violations));
+    }
+
+    /**
+     * Check whether this is of type {@code Valid}
+     *
+     * @return true if is a Valid, false if is an Invalid
+     */
+    boolean isValid();
+
+    /**
+     * Check whether this is of type {@code Invalid}
+     *
+     * @return true if is an Invalid, false if is a Valid
+     */
+    boolean isInvalid();
+
+    /**
+     * Gets the value of this Validation if is a Valid or throws if this is an Invalid
+     *
+     * @return The value of this Validation
+     * @throws NoSuchElementException if this is an Invalid
+     */
+    double getAsDouble();
+
+    /**
+     * Gets the violation of this Validation if is an Invalid or throws if this is a Valid
+     *
+     * @return The violation of this Invalid, as an unmodifiable list
+     * @throws RuntimeException if this is a Valid
+     */
+    List<E> getViolations();
+
+    /**
+     * Gets the number of violations of this Validation, including those dropped by {@link ViolationPolicy}.
+     *
+     * @return the number of violations, or 0 if this is a Valid
+     */
+    default long getViolationCount() {
+        return isValid() ? 0 : Violations.of(this).count();
+    }
+
+    /**
+     * Maps the underlying value without boxing it.
+     *
+     * @param mapper A mapper
+     * @return A new value
+     */
+    default DoubleValidation<E> map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? this : valid(mapper.applyAsDouble(getAsDouble()));
+    }
+
+    default DoubleValidation<E> flatMap(DoubleFunction<? extends DoubleValidation<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? this : mapper.apply(getAsDouble());
+    }
+
+    /**
+     * Maps the underlying value to an object, leaving the primitive domain.
+     *
+     * @param mapper A mapper
+     * @param <U>    The new component type
+     * @return A new value
+     */
+    default <U> Validation<E, U> mapToObj(DoubleFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? Violations.of(this).toInvalid() : Validation.valid(mapper.apply(getAsDouble()));
+    }
+
+    default Validation<E, Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    default DoubleBuilder2<E> combine(DoubleValidation<E> validation) {
+        return new DoubleBuilder2<>(this, validation);
+    }
+
+    /**
+     * Combines 2 {@code DoubleValidation}s into a {@link DoubleBuilder2 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @return an instance of DoubleBuilder2&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder2<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        return new DoubleBuilder2<>(validation1, validation2);
+    }
+
+    /**
+     * Combines 3 {@code DoubleValidation}s into a {@link DoubleBuilder3 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @return an instance of DoubleBuilder3&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder3<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        return new DoubleBuilder3<>(validation1, validation2, validation3);
+    }
+
+    /**
+     * Combines 4 {@code DoubleValidation}s into a {@link DoubleBuilder4 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @return an instance of DoubleBuilder4&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder4<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3, DoubleValidation<E> validation4) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        return new DoubleBuilder4<>(validation1, validation2, validation3, validation4);
+    }
+
+    /**
+     * Combines 5 {@code DoubleValidation}s into a {@link DoubleBuilder5 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @return an instance of DoubleBuilder5&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder5<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3, DoubleValidation<E> validation4, DoubleValidation<E> validation5) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        return new DoubleBuilder5<>(validation1, validation2, validation3, validation4, validation5);
+    }
+
+    /**
+     * Combines 6 {@code DoubleValidation}s into a {@link DoubleBuilder6 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @return an instance of DoubleBuilder6&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder6<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3, DoubleValidation<E> validation4, DoubleValidation<E> validation5, DoubleValidation<E> validation6) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        return new DoubleBuilder6<>(validation1, validation2, validation3, validation4, validation5, validation6);
+    }
+
+    /**
+     * Combines 7 {@code DoubleValidation}s into a {@link DoubleBuilder7 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @return an instance of DoubleBuilder7&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder7<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3, DoubleValidation<E> validation4, DoubleValidation<E> validation5, DoubleValidation<E> validation6, DoubleValidation<E> validation7) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        return new DoubleBuilder7<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7);
+    }
+
+    /**
+     * Combines 8 {@code DoubleValidation}s into a {@link DoubleBuilder8 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @return an instance of DoubleBuilder8&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder8<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3, DoubleValidation<E> validation4, DoubleValidation<E> validation5, DoubleValidation<E> validation6, DoubleValidation<E> validation7, DoubleValidation<E> validation8) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        return new DoubleBuilder8<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
+    }
+
+    /**
+     * Combines 9 {@code DoubleValidation}s into a {@link DoubleBuilder9 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @return an instance of DoubleBuilder9&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder9<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3, DoubleValidation<E> validation4, DoubleValidation<E> validation5, DoubleValidation<E> validation6, DoubleValidation<E> validation7, DoubleValidation<E> validation8, DoubleValidation<E> validation9) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        return new DoubleBuilder9<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
+    }
+
+    /**
+     * Combines 10 {@code DoubleValidation}s into a {@link DoubleBuilder10 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @return an instance of DoubleBuilder10&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder10<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3, DoubleValidation<E> validation4, DoubleValidation<E> validation5, DoubleValidation<E> validation6, DoubleValidation<E> validation7, DoubleValidation<E> validation8, DoubleValidation<E> validation9, DoubleValidation<E> validation10) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        return new DoubleBuilder10<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
+    }
+
+    /**
+     * Combines 11 {@code DoubleValidation}s into a {@link DoubleBuilder11 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @return an instance of DoubleBuilder11&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> DoubleBuilder11<E> combine(DoubleValidation<E> validation1, DoubleValidation<E> validation2, DoubleValidation<E> validation3, DoubleValidation<E> validation4, DoubleValidation<E> validation5, DoubleValidation<E> validation6, DoubleValidation<E> validation7, DoubleValidation<E> validation8, DoubleValidation<E> validation9, DoubleValidation<E> validation10, DoubleValidation<E> validation11) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        return new DoubleBuilder11<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleFunction2<R> f) {
+        return new DoubleBuilder2<>(this, v2).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleFunction3<R> f) {
+        return new DoubleBuilder3<>(this, v2, v3).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleFunction4<R> f) {
+        return new DoubleBuilder4<>(this, v2, v3, v4).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleFunction5<R> f) {
+        return new DoubleBuilder5<>(this, v2, v3, v4, v5).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleFunction6<R> f) {
+        return new DoubleBuilder6<>(this, v2, v3, v4, v5, v6).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleFunction7<R> f) {
+        return new DoubleBuilder7<>(this, v2, v3, v4, v5, v6, v7).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleValidation<E> v8, DoubleFunction8<R> f) {
+        return new DoubleBuilder8<>(this, v2, v3, v4, v5, v6, v7, v8).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleValidation<E> v8, DoubleValidation<E> v9, DoubleFunction9<R> f) {
+        return new DoubleBuilder9<>(this, v2, v3, v4, v5, v6, v7, v8, v9).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleValidation<E> v8, DoubleValidation<E> v9, DoubleValidation<E> v10, DoubleFunction10<R> f) {
+        return new DoubleBuilder10<>(this, v2, v3, v4, v5, v6, v7, v8, v9, v10).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleValidation<E> v8, DoubleValidation<E> v9, DoubleValidation<E> v10, DoubleValidation<E> v11, DoubleFunction11<R> f) {
+        return new DoubleBuilder11<>(this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11).apply(f);
+    }
+
+    /**
+     * A valid DoubleValidation
+     *
+     * @param <E> type of the violation of this Validation
+     */
+    final class Valid<E> implements DoubleValidation<E>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double value;
+
+        private Valid(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return false;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return value;
+        }
+
+        @Override
+        public List<E> getViolations() throws RuntimeException {
+            throw new NoSuchElementException("violation of 'valid' Validation");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj == this) || (obj instanceof Valid && Double.compare(value, ((Valid<?>) obj).value) == 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Valid(" + value + ")";
+        }
+    }
+
+    /**
+     * An invalid DoubleValidation
+     *
+     * @param <E> type of the violation of this Validation
+     */
+    final class Invalid<E> implements DoubleValidation<E>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Violations<E> violations;
+
+        Invalid(Violations<E> violations) {
+            this.violations = violations;
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return true;
+        }
+
+        @Override
+        public double getAsDouble() throws RuntimeException {
+            throw new NoSuchElementException("get of 'invalid' Validation");
+        }
+
+        @Override
+        public List<E> getViolations() {
+            return violations.toList();
+        }
+
+        Violations<E> violations() {
+            return violations;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj == this) || (obj instanceof Invalid && Objects.equals(getViolations(), ((Invalid<?>) obj).getViolations()));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getViolations());
+        }
+
+        @Override
+        public String toString() {
+            return "Invalid(" + getViolations() + ")";
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+import static io.disc99.validation.Validation.valid;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Builders that evaluate supplied validations in order and stop at the first {@code Invalid},
+ * so the remaining suppliers are never called.
+ */
+final class FailFastBuilders {
+
+    static final class FailFastBuilder2<E, T1, T2> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+
+        FailFastBuilder2(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2) {
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+
+        public <R> Validation<E, R> apply(BiFunction<T1, T2, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get()));
+        }
+
+        public <T3> FailFastBuilder3<E, T1, T2, T3> combine(Supplier<? extends Validation<E, T3>> v3) {
+            return new FailFastBuilder3<>(v1, v2, v3);
+        }
+    }
+
+    static final class FailFastBuilder3<E, T1, T2, T3> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+
+        FailFastBuilder3(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+        }
+
+        public <R> Validation<E, R> apply(Function3<T1, T2, T3, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get()));
+        }
+
+        public <T4> FailFastBuilder4<E, T1, T2, T3, T4> combine(Supplier<? extends Validation<E, T4>> v4) {
+            return new FailFastBuilder4<>(v1, v2, v3, v4);
+        }
+    }
+
+    static final class FailFastBuilder4<E, T1, T2, T3, T4> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+
+        FailFastBuilder4(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+        }
+
+        public <R> Validation<E, R> apply(Function4<T1, T2, T3, T4, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            Validation<E, T4> r4 = v4.get();
+            if (r4.isInvalid()) {
+                return Violations.of(r4).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get(), r4.get()));
+        }
+
+        public <T5> FailFastBuilder5<E, T1, T2, T3, T4, T5> combine(Supplier<? extends Validation<E, T5>> v5) {
+            return new FailFastBuilder5<>(v1, v2, v3, v4, v5);
+        }
+    }
+
+    static final class FailFastBuilder5<E, T1, T2, T3, T4, T5> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+
+        FailFastBuilder5(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+        }
+
+        public <R> Validation<E, R> apply(Function5<T1, T2, T3, T4, T5, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            Validation<E, T4> r4 = v4.get();
+            if (r4.isInvalid()) {
+                return Violations.of(r4).toInvalid();
+            }
+            Validation<E, T5> r5 = v5.get();
+            if (r5.isInvalid()) {
+                return Violations.of(r5).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get(), r4.get(), r5.get()));
+        }
+
+        public <T6> FailFastBuilder6<E, T1, T2, T3, T4, T5, T6> combine(Supplier<? extends Validation<E, T6>> v6) {
+            return new FailFastBuilder6<>(v1, v2, v3, v4, v5, v6);
+        }
+    }
+
+    static final class FailFastBuilder6<E, T1, T2, T3, T4, T5, T6> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+
+        FailFastBuilder6(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+        }
+
+        public <R> Validation<E, R> apply(Function6<T1, T2, T3, T4, T5, T6, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            Validation<E, T4> r4 = v4.get();
+            if (r4.isInvalid()) {
+                return Violations.of(r4).toInvalid();
+            }
+            Validation<E, T5> r5 = v5.get();
+            if (r5.isInvalid()) {
+                return Violations.of(r5).toInvalid();
+            }
+            Validation<E, T6> r6 = v6.get();
+            if (r6.isInvalid()) {
+                return Violations.of(r6).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get()));
+        }
+
+        public <T7> FailFastBuilder7<E, T1, T2, T3, T4, T5, T6, T7> combine(Supplier<? extends Validation<E, T7>> v7) {
+            return new FailFastBuilder7<>(v1, v2, v3, v4, v5, v6, v7);
+        }
+    }
+
+    static final class FailFastBuilder7<E, T1, T2, T3, T4, T5, T6, T7> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+
+        FailFastBuilder7(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+        }
+
+        public <R> Validation<E, R> apply(Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            Validation<E, T4> r4 = v4.get();
+            if (r4.isInvalid()) {
+                return Violations.of(r4).toInvalid();
+            }
+            Validation<E, T5> r5 = v5.get();
+            if (r5.isInvalid()) {
+                return Violations.of(r5).toInvalid();
+            }
+            Validation<E, T6> r6 = v6.get();
+            if (r6.isInvalid()) {
+                return Violations.of(r6).toInvalid();
+            }
+            Validation<E, T7> r7 = v7.get();
+            if (r7.isInvalid()) {
+                return Violations.of(r7).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get(), r7.get()));
+        }
+
+        public <T8> FailFastBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combine(Supplier<? extends Validation<E, T8>> v8) {
+            return new FailFastBuilder8<>(v1, v2, v3, v4, v5, v6, v7, v8);
+        }
+    }
+
+    static final class FailFastBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+        private final Supplier<? extends Validation<E, T8>> v8;
+
+        FailFastBuilder8(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+        }
+
+        public <R> Validation<E, R> apply(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            Validation<E, T4> r4 = v4.get();
+            if (r4.isInvalid()) {
+                return Violations.of(r4).toInvalid();
+            }
+            Validation<E, T5> r5 = v5.get();
+            if (r5.isInvalid()) {
+                return Violations.of(r5).toInvalid();
+            }
+            Validation<E, T6> r6 = v6.get();
+            if (r6.isInvalid()) {
+                return Violations.of(r6).toInvalid();
+            }
+            Validation<E, T7> r7 = v7.get();
+            if (r7.isInvalid()) {
+                return Violations.of(r7).toInvalid();
+            }
+            Validation<E, T8> r8 = v8.get();
+            if (r8.isInvalid()) {
+                return Violations.of(r8).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get(), r7.get(), r8.get()));
+        }
+
+        public <T9> FailFastBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> combine(Supplier<? extends Validation<E, T9>> v9) {
+            return new FailFastBuilder9<>(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+        }
+    }
+
+    static final class FailFastBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+        private final Supplier<? extends Validation<E, T8>> v8;
+        private final Supplier<? extends Validation<E, T9>> v9;
+
+        FailFastBuilder9(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8, Supplier<? extends Validation<E, T9>> v9) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+        }
+
+        public <R> Validation<E, R> apply(Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            Validation<E, T4> r4 = v4.get();
+            if (r4.isInvalid()) {
+                return Violations.of(r4).toInvalid();
+            }
+            Validation<E, T5> r5 = v5.get();
+            if (r5.isInvalid()) {
+                return Violations.of(r5).toInvalid();
+            }
+            Validation<E, T6> r6 = v6.get();
+            if (r6.isInvalid()) {
+                return Violations.of(r6).toInvalid();
+            }
+            Validation<E, T7> r7 = v7.get();
+            if (r7.isInvalid()) {
+                return Violations.of(r7).toInvalid();
+            }
+            Validation<E, T8> r8 = v8.get();
+            if (r8.isInvalid()) {
+                return Violations.of(r8).toInvalid();
+            }
+            Validation<E, T9> r9 = v9.get();
+            if (r9.isInvalid()) {
+                return Violations.of(r9).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get(), r7.get(), r8.get(), r9.get()));
+        }
+
+        public <T10> FailFastBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combine(Supplier<? extends Validation<E, T10>> v10) {
+            return new FailFastBuilder10<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+        }
+    }
+
+    static final class FailFastBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+        private final Supplier<? extends Validation<E, T8>> v8;
+        private final Supplier<? extends Validation<E, T9>> v9;
+        private final Supplier<? extends Validation<E, T10>> v10;
+
+        FailFastBuilder10(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8, Supplier<? extends Validation<E, T9>> v9, Supplier<? extends Validation<E, T10>> v10) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+        }
+
+        public <R> Validation<E, R> apply(Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            Validation<E, T4> r4 = v4.get();
+            if (r4.isInvalid()) {
+                return Violations.of(r4).toInvalid();
+            }
+            Validation<E, T5> r5 = v5.get();
+            if (r5.isInvalid()) {
+                return Violations.of(r5).toInvalid();
+            }
+            Validation<E, T6> r6 = v6.get();
+            if (r6.isInvalid()) {
+                return Violations.of(r6).toInvalid();
+            }
+            Validation<E, T7> r7 = v7.get();
+            if (r7.isInvalid()) {
+                return Violations.of(r7).toInvalid();
+            }
+            Validation<E, T8> r8 = v8.get();
+            if (r8.isInvalid()) {
+                return Violations.of(r8).toInvalid();
+            }
+            Validation<E, T9> r9 = v9.get();
+            if (r9.isInvalid()) {
+                return Violations.of(r9).toInvalid();
+            }
+            Validation<E, T10> r10 = v10.get();
+            if (r10.isInvalid()) {
+                return Violations.of(r10).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get(), r7.get(), r8.get(), r9.get(), r10.get()));
+        }
+
+        public <T11> FailFastBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> combine(Supplier<? extends Validation<E, T11>> v11) {
+            return new FailFastBuilder11<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+        }
+    }
+
+    static final class FailFastBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> {
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+        private final Supplier<? extends Validation<E, T8>> v8;
+        private final Supplier<? extends Validation<E, T9>> v9;
+        private final Supplier<? extends Validation<E, T10>> v10;
+        private final Supplier<? extends Validation<E, T11>> v11;
+
+        FailFastBuilder11(Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8, Supplier<? extends Validation<E, T9>> v9, Supplier<? extends Validation<E, T10>> v10, Supplier<? extends Validation<E, T11>> v11) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+        }
+
+        public <R> Validation<E, R> apply(Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+            Validation<E, T1> r1 = v1.get();
+            if (r1.isInvalid()) {
+                return Violations.of(r1).toInvalid();
+            }
+            Validation<E, T2> r2 = v2.get();
+            if (r2.isInvalid()) {
+                return Violations.of(r2).toInvalid();
+            }
+            Validation<E, T3> r3 = v3.get();
+            if (r3.isInvalid()) {
+                return Violations.of(r3).toInvalid();
+            }
+            Validation<E, T4> r4 = v4.get();
+            if (r4.isInvalid()) {
+                return Violations.of(r4).toInvalid();
+            }
+            Validation<E, T5> r5 = v5.get();
+            if (r5.isInvalid()) {
+                return Violations.of(r5).toInvalid();
+            }
+            Validation<E, T6> r6 = v6.get();
+            if (r6.isInvalid()) {
+                return Violations.of(r6).toInvalid();
+            }
+            Validation<E, T7> r7 = v7.get();
+            if (r7.isInvalid()) {
+                return Violations.of(r7).toInvalid();
+            }
+            Validation<E, T8> r8 = v8.get();
+            if (r8.isInvalid()) {
+                return Violations.of(r8).toInvalid();
+            }
+            Validation<E, T9> r9 = v9.get();
+            if (r9.isInvalid()) {
+                return Violations.of(r9).toInvalid();
+            }
+            Validation<E, T10> r10 = v10.get();
+            if (r10.isInvalid()) {
+                return Violations.of(r10).toInvalid();
+            }
+            Validation<E, T11> r11 = v11.get();
+            if (r11.isInvalid()) {
+                return Violations.of(r11).toInvalid();
+            }
+            return valid(f.apply(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get(), r7.get(), r8.get(), r9.get(), r10.get(), r11.get()));
+        }
+    }
+}
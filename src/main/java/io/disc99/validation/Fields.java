@@ -0,0 +1,246 @@
+package io.disc99.validation;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The values of any number of combined validations, stored in a single array and read back by typed {@link Key}s.
+ *
+ * Use it where the fixed arities of {@link Validation#combine} run out, e.g. wide records:
+ *
+ * <pre>{@code
+ * static final Fields.Layout ROW = new Fields.Layout();
+ * static final Fields.Key<String> NAME = ROW.key("name");
+ * static final Fields.Key<Integer> AGE = ROW.key("age");
+ *
+ * Validation<String, Row> row = ROW
+ *         .combine(NAME, validateName(name))
+ *         .combine(AGE, validateAge(age))
+ *         .apply(fields -> new Row(fields.get(NAME), fields.get(AGE)));
+ * }</pre>
+ */
+public final class Fields {
+
+    private final Layout layout;
+    private final Object[] values;
+
+    private Fields(Layout layout, Object[] values) {
+        this.layout = layout;
+        this.values = values;
+    }
+
+    /**
+     * Gets the value of {@code key}.
+     *
+     * @param <T> type of the value
+     * @param key a key of the layout these fields were combined with
+     * @return the value
+     * @throws NullPointerException     if key is null
+     * @throws IllegalArgumentException if key belongs to another layout, or was created after combining
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key<T> key) {
+        Objects.requireNonNull(key, "key is null");
+        if (key.layout != layout || key.index >= values.length) {
+            throw new IllegalArgumentException("unknown key: " + key);
+        }
+        return (T) values[key.index];
+    }
+
+    /**
+     * @return the number of fields
+     */
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Fields fields = (Fields) o;
+        return layout == fields.layout && Arrays.equals(values, fields.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        Key<?>[] keys = layout.keys;
+        StringBuilder result = new StringBuilder("Fields{");
+        for (int i = 0; i < values.length; i++) {
+            result.append(i == 0 ? "" : ", ").append(keys[i].name).append('=').append(values[i]);
+        }
+        return result.append('}').toString();
+    }
+
+    /**
+     * A typed position in a {@link Layout}.
+     *
+     * @param <T> type of the value
+     */
+    public static final class Key<T> {
+
+        private final Layout layout;
+        private final int index;
+        private final String name;
+
+        private Key(Layout layout, int index, String name) {
+            this.layout = layout;
+            this.index = index;
+            this.name = name;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return "Key(" + name + ")";
+        }
+    }
+
+    /**
+     * An ordered set of keys. Keys are usually created once, in static initialisers; each key gets the next
+     * index, so a combination costs one array slot per key whatever the number of keys.
+     */
+    public static final class Layout {
+
+        private volatile Key<?>[] keys = new Key<?>[0];
+
+        /**
+         * Creates the next key of this layout.
+         *
+         * @param <T>  type of the value
+         * @param name name of the field, used by {@code toString}
+         * @return a new key
+         * @throws NullPointerException if name is null
+         */
+        public synchronized <T> Key<T> key(String name) {
+            Objects.requireNonNull(name, "name is null");
+            Key<T> key = new Key<>(this, keys.length, name);
+            Key<?>[] next = Arrays.copyOf(keys, keys.length + 1);
+            next[key.index] = key;
+            keys = next;
+            return key;
+        }
+
+        /**
+         * @return the number of keys
+         */
+        public int size() {
+            return keys.length;
+        }
+
+        /**
+         * Starts a combination with the validation of {@code key}.
+         *
+         * @param <E>        type of violation
+         * @param <T>        type of the value
+         * @param key        a key of this layout
+         * @param validation validation of the value
+         * @return a builder to combine the other keys
+         * @throws NullPointerException     if key or validation is null
+         * @throws IllegalArgumentException if key belongs to another layout
+         */
+        public <E, T> Builder<E> combine(Key<T> key, Validation<E, ? extends T> validation) {
+            return new Builder<E>(this).combine(key, validation);
+        }
+    }
+
+    /**
+     * Collects the validations of a {@link Layout}'s keys in one pass. Values are written straight into the
+     * array of the resulting {@code Fields}, and dropped once a violation has been found.
+     * A builder is single use.
+     *
+     * @param <E> type of violation
+     */
+    public static final class Builder<E> {
+
+        private final Layout layout;
+        private final int size;
+        private Object[] values;
+        private boolean[] present;
+        private int count;
+        private Violations<E> violations;
+
+        private Builder(Layout layout) {
+            this.layout = layout;
+            this.size = layout.size();
+            this.values = new Object[size];
+            this.present = new boolean[size];
+        }
+
+        /**
+         * Adds the validation of {@code key}.
+         *
+         * @param <T>        type of the value
+         * @param key        a key of the layout
+         * @param validation validation of the value
+         * @return this builder
+         * @throws NullPointerException     if key or validation is null
+         * @throws IllegalArgumentException if key belongs to another layout, or was already combined
+         * @throws IllegalStateException    if this builder was already applied
+         */
+        public <T> Builder<E> combine(Key<T> key, Validation<E, ? extends T> validation) {
+            Objects.requireNonNull(key, "key is null");
+            Objects.requireNonNull(validation, "validation is null");
+            if (present == null) {
+                throw new IllegalStateException("builder was already applied");
+            }
+            if (key.layout != layout || key.index >= size) {
+                throw new IllegalArgumentException("unknown key: " + key);
+            }
+            if (present[key.index]) {
+                throw new IllegalArgumentException("key combined twice: " + key);
+            }
+            present[key.index] = true;
+            count++;
+            if (validation.isValid()) {
+                if (violations == null) {
+                    values[key.index] = validation.get();
+                }
+            } else {
+                violations = Violations.append(violations, validation);
+                values = null;
+            }
+            return this;
+        }
+
+        /**
+         * @return the fields if every validation is valid, otherwise all violations in combination order
+         * @throws IllegalStateException if a key of the layout was not combined, or this builder was already applied
+         */
+        public Validation<E, Fields> apply() {
+            if (present == null) {
+                throw new IllegalStateException("builder was already applied");
+            }
+            if (count != size) {
+                for (int i = 0; i < size; i++) {
+                    if (!present[i]) {
+                        throw new IllegalStateException("key not combined: " + layout.keys[i]);
+                    }
+                }
+            }
+            present = null;
+            return violations == null ? Validation.valid(new Fields(layout, values)) : violations.toInvalid();
+        }
+
+        /**
+         * @param <R> type of the result
+         * @param f   builds the result from the fields
+         * @return the result if every validation is valid, otherwise all violations in combination order
+         * @throws NullPointerException  if f is null
+         * @throws IllegalStateException if a key of the layout was not combined, or this builder was already applied
+         */
+        public <R> Validation<E, R> apply(Function<? super Fields, ? extends R> f) {
+            Objects.requireNonNull(f, "f is null");
+            return apply().map(f::apply);
+        }
+    }
+}
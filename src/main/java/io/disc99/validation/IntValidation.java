@@ -0,0 +1,514 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.*;
+
+import static io.disc99.validation.PrimitiveBuilders.*;
+
+/**
+ * A {@link Validation} specialized for {@code int} values, so numeric checks do not box.
+ *
+ * @param <E> type of the violation
+ */
+public interface IntValidation<E> {
+
+    /**
+     * Creates a {@link Valid} that contains the given {@code value}.
+     *
+     * @param <E>   type of the violation
+     * @param value A value
+     * @return {@code Valid(value)}
+     */
+    static <E> IntValidation<E> valid(int value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Creates an {@link Invalid} that contains a copy of the given {@code violations}.
+     *
+     * @param <E>        type of the given {@code violations}
+     * @param violations An violations
+     * @return {@code Invalid(violations)}
+     * @throws NullPointerException if violations is null
+     */
+    static <E> IntValidation<E> invalid(List<E> violations) {
+        return new Invalid<>(Violations.of(violations));
+    }
+
+    /**
+     * Creates an {@link Invalid} that contains the given {@code violations}.
+     *
+     * @param <E>        type of the given {@code violations}
+     * @param violations An violations
+     * @return {@code Invalid(violations)}
+     * @throws NullPointerException if violations is null
+     */
+    @SafeVarargs
+    static <E> IntValidation<E> invalid(E... violations) {
+        return invalid(Arrays.asList(violations));
+    }
+
+    /**
+     * Check whether this is of type {@code Valid}
+     *
+     * @return true if is a Valid, false if is an Invalid
+     */
+    boolean isValid();
+
+    /**
+     * Check whether this is of type {@code Invalid}
+     *
+     * @return true if is an Invalid, false if is a Valid
+     */
+    boolean isInvalid();
+
+    /**
+     * Gets the value of this Validation if is a Valid or throws if this is an Invalid
+     *
+     * @return The value of this Validation
+     * @throws NoSuchElementException if this is an Invalid
+     */
+    int getAsInt();
+
+    /**
+     * Gets the violation of this Validation if is an Invalid or throws if this is a Valid
+     *
+     * @return The violation of this Invalid, as an unmodifiable list
+     * @throws RuntimeException if this is a Valid
+     */
+    List<E> getViolations();
+
+    /**
+     * Gets the number of violations of this Validation, including those dropped by {@link ViolationPolicy}.
+     *
+     * @return the number of violations, or 0 if this is a Valid
+     */
+    default long getViolationCount() {
+        return isValid() ? 0 : Violations.of(this).count();
+    }
+
+    /**
+     * Maps the underlying value without boxing it.
+     *
+     * @param mapper A mapper
+     * @return A new value
+     */
+    default IntValidation<E> map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? this : valid(mapper.applyAsInt(getAsInt()));
+    }
+
+    default IntValidation<E> flatMap(IntFunction<? extends IntValidation<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? this : mapper.apply(getAsInt());
+    }
+
+    /**
+     * Maps the underlying value to an object, leaving the primitive domain.
+     *
+     * @param mapper A mapper
+     * @param <U>    The new component type
+     * @return A new value
+     */
+    default <U> Validation<E, U> mapToObj(IntFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? Violations.of(this).toInvalid() : Validation.valid(mapper.apply(getAsInt()));
+    }
+
+    default Validation<E, Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    default IntBuilder2<E> combine(IntValidation<E> validation) {
+        return new IntBuilder2<>(this, validation);
+    }
+
+    /**
+     * Combines 2 {@code IntValidation}s into a {@link IntBuilder2 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @return an instance of IntBuilder2&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder2<E> combine(IntValidation<E> validation1, IntValidation<E> validation2) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        return new IntBuilder2<>(validation1, validation2);
+    }
+
+    /**
+     * Combines 3 {@code IntValidation}s into a {@link IntBuilder3 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @return an instance of IntBuilder3&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder3<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        return new IntBuilder3<>(validation1, validation2, validation3);
+    }
+
+    /**
+     * Combines 4 {@code IntValidation}s into a {@link IntBuilder4 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @return an instance of IntBuilder4&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder4<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3, IntValidation<E> validation4) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        return new IntBuilder4<>(validation1, validation2, validation3, validation4);
+    }
+
+    /**
+     * Combines 5 {@code IntValidation}s into a {@link IntBuilder5 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @return an instance of IntBuilder5&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder5<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3, IntValidation<E> validation4, IntValidation<E> validation5) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        return new IntBuilder5<>(validation1, validation2, validation3, validation4, validation5);
+    }
+
+    /**
+     * Combines 6 {@code IntValidation}s into a {@link IntBuilder6 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @return an instance of IntBuilder6&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder6<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3, IntValidation<E> validation4, IntValidation<E> validation5, IntValidation<E> validation6) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        return new IntBuilder6<>(validation1, validation2, validation3, validation4, validation5, validation6);
+    }
+
+    /**
+     * Combines 7 {@code IntValidation}s into a {@link IntBuilder7 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @return an instance of IntBuilder7&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder7<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3, IntValidation<E> validation4, IntValidation<E> validation5, IntValidation<E> validation6, IntValidation<E> validation7) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        return new IntBuilder7<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7);
+    }
+
+    /**
+     * Combines 8 {@code IntValidation}s into a {@link IntBuilder8 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @return an instance of IntBuilder8&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder8<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3, IntValidation<E> validation4, IntValidation<E> validation5, IntValidation<E> validation6, IntValidation<E> validation7, IntValidation<E> validation8) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        return new IntBuilder8<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
+    }
+
+    /**
+     * Combines 9 {@code IntValidation}s into a {@link IntBuilder9 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @return an instance of IntBuilder9&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder9<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3, IntValidation<E> validation4, IntValidation<E> validation5, IntValidation<E> validation6, IntValidation<E> validation7, IntValidation<E> validation8, IntValidation<E> validation9) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        return new IntBuilder9<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
+    }
+
+    /**
+     * Combines 10 {@code IntValidation}s into a {@link IntBuilder10 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @return an instance of IntBuilder10&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder10<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3, IntValidation<E> validation4, IntValidation<E> validation5, IntValidation<E> validation6, IntValidation<E> validation7, IntValidation<E> validation8, IntValidation<E> validation9, IntValidation<E> validation10) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        return new IntBuilder10<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
+    }
+
+    /**
+     * Combines 11 {@code IntValidation}s into a {@link IntBuilder11 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @return an instance of IntBuilder11&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> IntBuilder11<E> combine(IntValidation<E> validation1, IntValidation<E> validation2, IntValidation<E> validation3, IntValidation<E> validation4, IntValidation<E> validation5, IntValidation<E> validation6, IntValidation<E> validation7, IntValidation<E> validation8, IntValidation<E> validation9, IntValidation<E> validation10, IntValidation<E> validation11) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        return new IntBuilder11<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntFunction2<R> f) {
+        return new IntBuilder2<>(this, v2).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntFunction3<R> f) {
+        return new IntBuilder3<>(this, v2, v3).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntFunction4<R> f) {
+        return new IntBuilder4<>(this, v2, v3, v4).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntFunction5<R> f) {
+        return new IntBuilder5<>(this, v2, v3, v4, v5).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntFunction6<R> f) {
+        return new IntBuilder6<>(this, v2, v3, v4, v5, v6).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntFunction7<R> f) {
+        return new IntBuilder7<>(this, v2, v3, v4, v5, v6, v7).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntValidation<E> v8, IntFunction8<R> f) {
+        return new IntBuilder8<>(this, v2, v3, v4, v5, v6, v7, v8).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntValidation<E> v8, IntValidation<E> v9, IntFunction9<R> f) {
+        return new IntBuilder9<>(this, v2, v3, v4, v5, v6, v7, v8, v9).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntValidation<E> v8, IntValidation<E> v9, IntValidation<E> v10, IntFunction10<R> f) {
+        return new IntBuilder10<>(this, v2, v3, v4, v5, v6, v7, v8, v9, v10).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntValidation<E> v8, IntValidation<E> v9, IntValidation<E> v10, IntValidation<E> v11, IntFunction11<R> f) {
+        return new IntBuilder11<>(this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11).apply(f);
+    }
+
+    /**
+     * A valid IntValidation
+     *
+     * @param <E> type of the violation of this Validation
+     */
+    final class Valid<E> implements IntValidation<E>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int value;
+
+        private Valid(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return false;
+        }
+
+        @Override
+        public int getAsInt() {
+            return value;
+        }
+
+        @Override
+        public List<E> getViolations() throws RuntimeException {
+            throw new NoSuchElementException("violation of 'valid' Validation");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj == this) || (obj instanceof Valid && Integer.compare(value, ((Valid<?>) obj).value) == 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Valid(" + value + ")";
+        }
+    }
+
+    /**
+     * An invalid IntValidation
+     *
+     * @param <E> type of the violation of this Validation
+     */
+    final class Invalid<E> implements IntValidation<E>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Violations<E> violations;
+
+        Invalid(Violations<E> violations) {
+            this.violations = violations;
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return true;
+        }
+
+        @Override
+        public int getAsInt() throws RuntimeException {
+            throw new NoSuchElementException("get of 'invalid' Validation");
+        }
+
+        @Override
+        public List<E> getViolations() {
+            return violations.toList();
+        }
+
+        Violations<E> violations() {
+            return violations;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj == this) || (obj instanceof Invalid && Objects.equals(getViolations(), ((Invalid<?>) obj).getViolations()));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getViolations());
+        }
+
+        @Override
+        public String toString() {
+            return "Invalid(" + getViolations() + ")";
+        }
+    }
+}
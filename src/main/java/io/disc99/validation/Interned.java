@@ -0,0 +1,72 @@
+package io.disc99.validation;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared, immutable {@code Validation} instances for values that validators return over and over.
+ */
+final class Interned {
+
+    private static final int INTEGER_LOW = -128;
+    private static final int INTEGER_HIGH = 127;
+
+    /**
+     * Upper bound of distinct constant violations kept; beyond it {@link #invalid(Object)} stops caching.
+     */
+    static final int MAX_CONSTANT_VIOLATIONS = 1024;
+
+    private static final Validation<?, ?> NULL = new Validation.Valid<>(null);
+    private static final Validation<?, ?> TRUE = new Validation.Valid<>(Boolean.TRUE);
+    private static final Validation<?, ?> FALSE = new Validation.Valid<>(Boolean.FALSE);
+    private static final Validation<?, ?> EMPTY = new Validation.Valid<>(Optional.empty());
+    private static final Validation<?, ?>[] INTEGERS = new Validation<?, ?>[INTEGER_HIGH - INTEGER_LOW + 1];
+
+    private static final ConcurrentMap<Object, Validation<?, ?>> CONSTANT_VIOLATIONS = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = new Validation.Valid<>(i + INTEGER_LOW);
+        }
+    }
+
+    private Interned() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E, T> Validation<E, T> valid(T value) {
+        if (value == null) {
+            return (Validation<E, T>) NULL;
+        } else if (value == Boolean.TRUE) {
+            return (Validation<E, T>) TRUE;
+        } else if (value == Boolean.FALSE) {
+            return (Validation<E, T>) FALSE;
+        } else if (value instanceof Integer) {
+            int i = (Integer) value;
+            // only share the instance when it is the boxed cache entry itself, so get() keeps identity
+            if (i >= INTEGER_LOW && i <= INTEGER_HIGH && value == Integer.valueOf(i)) {
+                return (Validation<E, T>) INTEGERS[i - INTEGER_LOW];
+            }
+        } else if (value == Optional.empty()) {
+            return (Validation<E, T>) EMPTY;
+        }
+        return new Validation.Valid<>(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E, T> Validation<E, T> invalid(E violation) {
+        Validation<?, ?> cached = CONSTANT_VIOLATIONS.get(violation);
+        if (cached == null) {
+            cached = Violations.of(Collections.singletonList(violation)).toInvalid();
+            if (CONSTANT_VIOLATIONS.size() < MAX_CONSTANT_VIOLATIONS) {
+                Validation<?, ?> previous = CONSTANT_VIOLATIONS.putIfAbsent(violation, cached);
+                if (previous != null) {
+                    cached = previous;
+                }
+            }
+        }
+        return (Validation<E, T>) cached;
+    }
+}
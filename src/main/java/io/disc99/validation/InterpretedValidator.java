@@ -0,0 +1,33 @@
+package io.disc99.validation;
+
+import java.util.function.Function;
+
+/**
+ * Evaluates a compiled schema with a single loop over a flat rule array, so validating an object
+ * allocates only the value array and the result, not a builder chain per call.
+ */
+final class InterpretedValidator<A, E, R> extends CompiledValidator<A, E, R> {
+
+    private final Function<? super A, ? extends Validation<E, ?>>[] rules;
+    private final Function<Object[], ? extends R> combiner;
+
+    InterpretedValidator(Function<? super A, ? extends Validation<E, ?>>[] rules, Function<Object[], ? extends R> combiner) {
+        this.rules = rules;
+        this.combiner = combiner;
+    }
+
+    @Override
+    public Validation<E, R> validate(A target) {
+        Object[] values = new Object[rules.length];
+        Violations<E> violations = null;
+        for (int i = 0; i < rules.length; i++) {
+            Validation<E, ?> validation = rules[i].apply(target);
+            if (validation.isValid()) {
+                values[i] = validation.get();
+            } else {
+                violations = Violations.append(violations, validation);
+            }
+        }
+        return violations == null ? Validation.valid(combiner.apply(values)) : violations.toInvalid();
+    }
+}
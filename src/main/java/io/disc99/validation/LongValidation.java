@@ -0,0 +1,514 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.*;
+
+import static io.disc99.validation.PrimitiveBuilders.*;
+
+/**
+ * A {@link Validation} specialized for {@code long} values, so numeric checks do not box.
+ *
+ * @param <E> type of the violation
+ */
+public interface LongValidation<E> {
+
+    /**
+     * Creates a {@link Valid} that contains the given {@code value}.
+     *
+     * @param <E>   type of the violation
+     * @param value A value
+     * @return {@code Valid(value)}
+     */
+    static <E> LongValidation<E> valid(long value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Creates an {@link Invalid} that contains a copy of the given {@code violations}.
+     *
+     * @param <E>        type of the given {@code violations}
+     * @param violations An violations
+     * @return {@code Invalid(violations)}
+     * @throws NullPointerException if violations is null
+     */
+    static <E> LongValidation<E> invalid(List<E> violations) {
+        return new Invalid<>(Violations.of(violations));
+    }
+
+    /**
+     * Creates an {@link Invalid} that contains the given {@code violations}.
+     *
+     * @param <E>        type of the given {@code violations}
+     * @param violations An violations
+     * @return {@code Invalid(violations)}
+     * @throws NullPointerException if violations is null
+     */
+    @SafeVarargs
+    static <E> LongValidation<E> invalid(E... violations) {
+        return invalid(Arrays.asList(violations));
+    }
+
+    /**
+     * Check whether this is of type {@code Valid}
+     *
+     * @return true if is a Valid, false if is an Invalid
+     */
+    boolean isValid();
+
+    /**
+     * Check whether this is of type {@code Invalid}
+     *
+     * @return true if is an Invalid, false if is a Valid
+     */
+    boolean isInvalid();
+
+    /**
+     * Gets the value of this Validation if is a Valid or throws if this is an Invalid
+     *
+     * @return The value of this Validation
+     * @throws NoSuchElementException if this is an Invalid
+     */
+    long getAsLong();
+
+    /**
+     * Gets the violation of this Validation if is an Invalid or throws if this is a Valid
+     *
+     * @return The violation of this Invalid, as an unmodifiable list
+     * @throws RuntimeException if this is a Valid
+     */
+    List<E> getViolations();
+
+    /**
+     * Gets the number of violations of this Validation, including those dropped by {@link ViolationPolicy}.
+     *
+     * @return the number of violations, or 0 if this is a Valid
+     */
+    default long getViolationCount() {
+        return isValid() ? 0 : Violations.of(this).count();
+    }
+
+    /**
+     * Maps the underlying value without boxing it.
+     *
+     * @param mapper A mapper
+     * @return A new value
+     */
+    default LongValidation<E> map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? this : valid(mapper.applyAsLong(getAsLong()));
+    }
+
+    default LongValidation<E> flatMap(LongFunction<? extends LongValidation<E>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? this : mapper.apply(getAsLong());
+    }
+
+    /**
+     * Maps the underlying value to an object, leaving the primitive domain.
+     *
+     * @param mapper A mapper
+     * @param <U>    The new component type
+     * @return A new value
+     */
+    default <U> Validation<E, U> mapToObj(LongFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return isInvalid() ? Violations.of(this).toInvalid() : Validation.valid(mapper.apply(getAsLong()));
+    }
+
+    default Validation<E, Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    default LongBuilder2<E> combine(LongValidation<E> validation) {
+        return new LongBuilder2<>(this, validation);
+    }
+
+    /**
+     * Combines 2 {@code LongValidation}s into a {@link LongBuilder2 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @return an instance of LongBuilder2&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder2<E> combine(LongValidation<E> validation1, LongValidation<E> validation2) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        return new LongBuilder2<>(validation1, validation2);
+    }
+
+    /**
+     * Combines 3 {@code LongValidation}s into a {@link LongBuilder3 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @return an instance of LongBuilder3&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder3<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        return new LongBuilder3<>(validation1, validation2, validation3);
+    }
+
+    /**
+     * Combines 4 {@code LongValidation}s into a {@link LongBuilder4 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @return an instance of LongBuilder4&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder4<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3, LongValidation<E> validation4) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        return new LongBuilder4<>(validation1, validation2, validation3, validation4);
+    }
+
+    /**
+     * Combines 5 {@code LongValidation}s into a {@link LongBuilder5 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @return an instance of LongBuilder5&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder5<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3, LongValidation<E> validation4, LongValidation<E> validation5) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        return new LongBuilder5<>(validation1, validation2, validation3, validation4, validation5);
+    }
+
+    /**
+     * Combines 6 {@code LongValidation}s into a {@link LongBuilder6 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @return an instance of LongBuilder6&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder6<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3, LongValidation<E> validation4, LongValidation<E> validation5, LongValidation<E> validation6) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        return new LongBuilder6<>(validation1, validation2, validation3, validation4, validation5, validation6);
+    }
+
+    /**
+     * Combines 7 {@code LongValidation}s into a {@link LongBuilder7 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @return an instance of LongBuilder7&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder7<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3, LongValidation<E> validation4, LongValidation<E> validation5, LongValidation<E> validation6, LongValidation<E> validation7) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        return new LongBuilder7<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7);
+    }
+
+    /**
+     * Combines 8 {@code LongValidation}s into a {@link LongBuilder8 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @return an instance of LongBuilder8&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder8<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3, LongValidation<E> validation4, LongValidation<E> validation5, LongValidation<E> validation6, LongValidation<E> validation7, LongValidation<E> validation8) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        return new LongBuilder8<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
+    }
+
+    /**
+     * Combines 9 {@code LongValidation}s into a {@link LongBuilder9 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @return an instance of LongBuilder9&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder9<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3, LongValidation<E> validation4, LongValidation<E> validation5, LongValidation<E> validation6, LongValidation<E> validation7, LongValidation<E> validation8, LongValidation<E> validation9) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        return new LongBuilder9<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
+    }
+
+    /**
+     * Combines 10 {@code LongValidation}s into a {@link LongBuilder10 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @return an instance of LongBuilder10&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder10<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3, LongValidation<E> validation4, LongValidation<E> validation5, LongValidation<E> validation6, LongValidation<E> validation7, LongValidation<E> validation8, LongValidation<E> validation9, LongValidation<E> validation10) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        return new LongBuilder10<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
+    }
+
+    /**
+     * Combines 11 {@code LongValidation}s into a {@link LongBuilder11 }.
+     *
+     * @param <E>         type of violation
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @return an instance of LongBuilder11&lt;E&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E> LongBuilder11<E> combine(LongValidation<E> validation1, LongValidation<E> validation2, LongValidation<E> validation3, LongValidation<E> validation4, LongValidation<E> validation5, LongValidation<E> validation6, LongValidation<E> validation7, LongValidation<E> validation8, LongValidation<E> validation9, LongValidation<E> validation10, LongValidation<E> validation11) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        return new LongBuilder11<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongFunction2<R> f) {
+        return new LongBuilder2<>(this, v2).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongFunction3<R> f) {
+        return new LongBuilder3<>(this, v2, v3).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongFunction4<R> f) {
+        return new LongBuilder4<>(this, v2, v3, v4).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongFunction5<R> f) {
+        return new LongBuilder5<>(this, v2, v3, v4, v5).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongFunction6<R> f) {
+        return new LongBuilder6<>(this, v2, v3, v4, v5, v6).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongFunction7<R> f) {
+        return new LongBuilder7<>(this, v2, v3, v4, v5, v6, v7).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongValidation<E> v8, LongFunction8<R> f) {
+        return new LongBuilder8<>(this, v2, v3, v4, v5, v6, v7, v8).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongValidation<E> v8, LongValidation<E> v9, LongFunction9<R> f) {
+        return new LongBuilder9<>(this, v2, v3, v4, v5, v6, v7, v8, v9).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongValidation<E> v8, LongValidation<E> v9, LongValidation<E> v10, LongFunction10<R> f) {
+        return new LongBuilder10<>(this, v2, v3, v4, v5, v6, v7, v8, v9, v10).apply(f);
+    }
+
+    default <R> Validation<E, R> accumulate(LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongValidation<E> v8, LongValidation<E> v9, LongValidation<E> v10, LongValidation<E> v11, LongFunction11<R> f) {
+        return new LongBuilder11<>(this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11).apply(f);
+    }
+
+    /**
+     * A valid LongValidation
+     *
+     * @param <E> type of the violation of this Validation
+     */
+    final class Valid<E> implements LongValidation<E>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long value;
+
+        private Valid(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return false;
+        }
+
+        @Override
+        public long getAsLong() {
+            return value;
+        }
+
+        @Override
+        public List<E> getViolations() throws RuntimeException {
+            throw new NoSuchElementException("violation of 'valid' Validation");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj == this) || (obj instanceof Valid && Long.compare(value, ((Valid<?>) obj).value) == 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Valid(" + value + ")";
+        }
+    }
+
+    /**
+     * An invalid LongValidation
+     *
+     * @param <E> type of the violation of this Validation
+     */
+    final class Invalid<E> implements LongValidation<E>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Violations<E> violations;
+
+        Invalid(Violations<E> violations) {
+            this.violations = violations;
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return true;
+        }
+
+        @Override
+        public long getAsLong() throws RuntimeException {
+            throw new NoSuchElementException("get of 'invalid' Validation");
+        }
+
+        @Override
+        public List<E> getViolations() {
+            return violations.toList();
+        }
+
+        Violations<E> violations() {
+            return violations;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj == this) || (obj instanceof Invalid && Objects.equals(getViolations(), ((Invalid<?>) obj).getViolations()));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getViolations());
+        }
+
+        @Override
+        public String toString() {
+            return "Invalid(" + getViolations() + ")";
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.disc99.validation;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A location in a nested object graph, such as {@code order.items[3].sku}.
+ *
+ * Paths are persistent linked lists of segments that point to their parent, so paths sharing a prefix
+ * share its nodes, and extending a path by a segment allocates a single node.
+ */
+public final class Path implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The empty path, i.e. the validated object itself.
+     */
+    public static final Path ROOT = new Path(null, null, -1);
+
+    private final Path parent;
+    private final String field;
+    private final int index;
+    private final int depth;
+
+    private Path(Path parent, String field, int index) {
+        this.parent = parent;
+        this.field = field;
+        this.index = index;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    /**
+     * @param field name of a field
+     * @return the path of {@code field} of the root
+     * @throws NullPointerException if field is null
+     */
+    public static Path of(String field) {
+        return ROOT.field(field);
+    }
+
+    /**
+     * @param field name of a field
+     * @return the path of {@code field} of the object at this path
+     * @throws NullPointerException if field is null
+     */
+    public Path field(String field) {
+        Objects.requireNonNull(field, "field is null");
+        return new Path(this, field, -1);
+    }
+
+    /**
+     * @param index an index
+     * @return the path of element {@code index} of the collection at this path
+     * @throws IllegalArgumentException if index is negative
+     */
+    public Path index(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index must not be negative: " + index);
+        }
+        return new Path(this, null, index);
+    }
+
+    /**
+     * Appends the segments of {@code relative} to this path, sharing the nodes of this path.
+     *
+     * @param relative a path relative to this one
+     * @return the combined path
+     * @throws NullPointerException if relative is null
+     */
+    public Path resolve(Path relative) {
+        Objects.requireNonNull(relative, "relative is null");
+        if (relative.depth == 0) {
+            return this;
+        }
+        if (depth == 0) {
+            return relative;
+        }
+        Path[] segments = relative.segments();
+        Path result = this;
+        for (Path segment : segments) {
+            result = new Path(result, segment.field, segment.index);
+        }
+        return result;
+    }
+
+    public boolean isRoot() {
+        return depth == 0;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * @return the segments of this path, outermost first
+     */
+    private Path[] segments() {
+        Path[] segments = new Path[depth];
+        for (Path p = this; p.depth > 0; p = p.parent) {
+            segments[p.depth - 1] = p;
+        }
+        return segments;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Path a = this;
+        Path b = (Path) o;
+        if (a.depth != b.depth) return false;
+        while (a != b) {
+            if (a.index != b.index || !Objects.equals(a.field, b.field)) return false;
+            a = a.parent;
+            b = b.parent;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (Path p = this; p.depth > 0; p = p.parent) {
+            result = 31 * result + (p.field != null ? p.field.hashCode() : p.index);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (Path segment : segments()) {
+            if (segment.field == null) {
+                result.append('[').append(segment.index).append(']');
+            } else {
+                result.append(result.length() == 0 ? "" : ".").append(segment.field);
+            }
+        }
+        return result.toString();
+    }
+
+    private Object readResolve() {
+        return depth == 0 ? ROOT : this;
+    }
+}
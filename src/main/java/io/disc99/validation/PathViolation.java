@@ -0,0 +1,87 @@
+package io.disc99.validation;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link Violation} at a {@link Path} of a nested object graph.
+ *
+ * Nest validations with {@link Validation#at(String, Validation)}: each level wraps the violations of the
+ * level below in O(1), whatever their number. The full paths are only resolved when the violations are read,
+ * once per nesting level, with the nodes of common prefixes shared between violations.
+ */
+public final class PathViolation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Path path;
+    private final Violation violation;
+
+    private PathViolation(Path path, Violation violation) {
+        this.path = path;
+        this.violation = violation;
+    }
+
+    /**
+     * @param path      location of the violation
+     * @param violation the violation
+     * @return a violation at {@code path}
+     * @throws NullPointerException if path or violation is null
+     */
+    public static PathViolation of(Path path, Violation violation) {
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(violation, "violation is null");
+        return new PathViolation(path, violation);
+    }
+
+    /**
+     * Lifts the violations of a leaf validation to the root path, ready to be nested.
+     *
+     * @param <T>        type of the value
+     * @param validation a validation with structured violations
+     * @return the same validation with {@code PathViolation}s
+     * @throws NullPointerException if validation is null
+     */
+    public static <T> Validation<PathViolation, T> lift(Validation<Violation, T> validation) {
+        Objects.requireNonNull(validation, "validation is null");
+        return validation.mapViolations(violations -> violations.stream()
+                .map(violation -> new PathViolation(Path.ROOT, violation))
+                .collect(toList()));
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public Violation violation() {
+        return violation;
+    }
+
+    /**
+     * @param prefix the path of the object this violation is relative to
+     * @return this violation at {@code prefix} followed by its path
+     */
+    PathViolation under(Path prefix) {
+        return new PathViolation(prefix.resolve(path), violation);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PathViolation that = (PathViolation) o;
+        return path.equals(that.path) && violation.equals(that.violation);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * path.hashCode() + violation.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path.isRoot() ? violation.message() : path + ": " + violation.message();
+    }
+}
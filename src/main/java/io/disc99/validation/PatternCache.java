@@ -0,0 +1,138 @@
+package io.disc99.validation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded, concurrent cache of compiled regular expressions.
+ *
+ * Hits are lock-free. Once the cache is full, a miss evicts the least recently used pattern.
+ * Hit, miss and eviction counts are kept for monitoring.
+ * Compiled {@code Pattern}s are thread-safe and shared; each match still creates its own {@code Matcher},
+ * since a pooled matcher would retain its last input and be confined to a single thread.
+ */
+public final class PatternCache {
+
+    /**
+     * Maximum size of the {@link #shared()} cache.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private static final PatternCache SHARED = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final int maximumSize;
+    private final Map<String, Entry> patterns = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Construct a {@code PatternCache}
+     *
+     * @param maximumSize maximum number of patterns kept
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public PatternCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @return the cache used by the pattern rules of {@link Validator}
+     */
+    public static PatternCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Gets the compiled {@code regexp}, compiling it on a miss.
+     *
+     * @param regexp the regular expression
+     * @return the compiled pattern
+     * @throws NullPointerException                   if regexp is null
+     * @throws java.util.regex.PatternSyntaxException if regexp is invalid
+     */
+    public Pattern get(String regexp) {
+        Objects.requireNonNull(regexp, "regexp is null");
+        Entry entry = patterns.get(regexp);
+        if (entry != null) {
+            hits.increment();
+            entry.lastAccess = clock.incrementAndGet();
+            return entry.pattern;
+        }
+        misses.increment();
+        Pattern pattern = Pattern.compile(regexp);
+        Entry created = new Entry(pattern, clock.incrementAndGet());
+        entry = patterns.putIfAbsent(regexp, created);
+        if (entry != null) {
+            return entry.pattern;
+        }
+        if (patterns.size() > maximumSize) {
+            evict();
+        }
+        return pattern;
+    }
+
+    /**
+     * Removes least recently used patterns until the cache is back within its maximum size.
+     */
+    private synchronized void evict() {
+        while (patterns.size() > maximumSize) {
+            String eldest = null;
+            long eldestAccess = Long.MAX_VALUE;
+            for (Map.Entry<String, Entry> e : patterns.entrySet()) {
+                long access = e.getValue().lastAccess;
+                if (access < eldestAccess) {
+                    eldest = e.getKey();
+                    eldestAccess = access;
+                }
+            }
+            if (eldest == null || patterns.remove(eldest) == null) {
+                return;
+            }
+            evictions.increment();
+        }
+    }
+
+    public int size() {
+        return patterns.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "PatternCache(size=" + size() + ", hits=" + hitCount() + ", misses=" + missCount() + ", evictions=" + evictionCount() + ")";
+    }
+
+    private static final class Entry {
+        final Pattern pattern;
+        volatile long lastAccess;
+
+        Entry(Pattern pattern, long lastAccess) {
+            this.pattern = pattern;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,1093 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+import static io.disc99.validation.Validation.valid;
+
+final class PrimitiveBuilders {
+
+    private PrimitiveBuilders() {
+    }
+
+    static final class IntBuilder2<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+
+        IntBuilder2(IntValidation<E> v1, IntValidation<E> v2) {
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction2<R> f) {
+            if (v1.isValid() && v2.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder3<E> combine(IntValidation<E> v3) {
+            return new IntBuilder3<>(v1, v2, v3);
+        }
+    }
+
+    static final class IntBuilder3<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+
+        IntBuilder3(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction3<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder4<E> combine(IntValidation<E> v4) {
+            return new IntBuilder4<>(v1, v2, v3, v4);
+        }
+    }
+
+    static final class IntBuilder4<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+        private final IntValidation<E> v4;
+
+        IntBuilder4(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction4<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt(), v4.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder5<E> combine(IntValidation<E> v5) {
+            return new IntBuilder5<>(v1, v2, v3, v4, v5);
+        }
+    }
+
+    static final class IntBuilder5<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+        private final IntValidation<E> v4;
+        private final IntValidation<E> v5;
+
+        IntBuilder5(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction5<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt(), v4.getAsInt(), v5.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder6<E> combine(IntValidation<E> v6) {
+            return new IntBuilder6<>(v1, v2, v3, v4, v5, v6);
+        }
+    }
+
+    static final class IntBuilder6<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+        private final IntValidation<E> v4;
+        private final IntValidation<E> v5;
+        private final IntValidation<E> v6;
+
+        IntBuilder6(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction6<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt(), v4.getAsInt(), v5.getAsInt(), v6.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder7<E> combine(IntValidation<E> v7) {
+            return new IntBuilder7<>(v1, v2, v3, v4, v5, v6, v7);
+        }
+    }
+
+    static final class IntBuilder7<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+        private final IntValidation<E> v4;
+        private final IntValidation<E> v5;
+        private final IntValidation<E> v6;
+        private final IntValidation<E> v7;
+
+        IntBuilder7(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction7<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt(), v4.getAsInt(), v5.getAsInt(), v6.getAsInt(), v7.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder8<E> combine(IntValidation<E> v8) {
+            return new IntBuilder8<>(v1, v2, v3, v4, v5, v6, v7, v8);
+        }
+    }
+
+    static final class IntBuilder8<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+        private final IntValidation<E> v4;
+        private final IntValidation<E> v5;
+        private final IntValidation<E> v6;
+        private final IntValidation<E> v7;
+        private final IntValidation<E> v8;
+
+        IntBuilder8(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntValidation<E> v8) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction8<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt(), v4.getAsInt(), v5.getAsInt(), v6.getAsInt(), v7.getAsInt(), v8.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder9<E> combine(IntValidation<E> v9) {
+            return new IntBuilder9<>(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+        }
+    }
+
+    static final class IntBuilder9<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+        private final IntValidation<E> v4;
+        private final IntValidation<E> v5;
+        private final IntValidation<E> v6;
+        private final IntValidation<E> v7;
+        private final IntValidation<E> v8;
+        private final IntValidation<E> v9;
+
+        IntBuilder9(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntValidation<E> v8, IntValidation<E> v9) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction9<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt(), v4.getAsInt(), v5.getAsInt(), v6.getAsInt(), v7.getAsInt(), v8.getAsInt(), v9.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder10<E> combine(IntValidation<E> v10) {
+            return new IntBuilder10<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+        }
+    }
+
+    static final class IntBuilder10<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+        private final IntValidation<E> v4;
+        private final IntValidation<E> v5;
+        private final IntValidation<E> v6;
+        private final IntValidation<E> v7;
+        private final IntValidation<E> v8;
+        private final IntValidation<E> v9;
+        private final IntValidation<E> v10;
+
+        IntBuilder10(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntValidation<E> v8, IntValidation<E> v9, IntValidation<E> v10) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction10<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt(), v4.getAsInt(), v5.getAsInt(), v6.getAsInt(), v7.getAsInt(), v8.getAsInt(), v9.getAsInt(), v10.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            violations = Violations.append(violations, v10);
+            return violations.toInvalid();
+        }
+
+        public IntBuilder11<E> combine(IntValidation<E> v11) {
+            return new IntBuilder11<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+        }
+    }
+
+    static final class IntBuilder11<E> {
+        private final IntValidation<E> v1;
+        private final IntValidation<E> v2;
+        private final IntValidation<E> v3;
+        private final IntValidation<E> v4;
+        private final IntValidation<E> v5;
+        private final IntValidation<E> v6;
+        private final IntValidation<E> v7;
+        private final IntValidation<E> v8;
+        private final IntValidation<E> v9;
+        private final IntValidation<E> v10;
+        private final IntValidation<E> v11;
+
+        IntBuilder11(IntValidation<E> v1, IntValidation<E> v2, IntValidation<E> v3, IntValidation<E> v4, IntValidation<E> v5, IntValidation<E> v6, IntValidation<E> v7, IntValidation<E> v8, IntValidation<E> v9, IntValidation<E> v10, IntValidation<E> v11) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+        }
+
+        public <R> Validation<E, R> apply(IntFunction11<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid()) {
+                return valid(f.apply(v1.getAsInt(), v2.getAsInt(), v3.getAsInt(), v4.getAsInt(), v5.getAsInt(), v6.getAsInt(), v7.getAsInt(), v8.getAsInt(), v9.getAsInt(), v10.getAsInt(), v11.getAsInt()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            violations = Violations.append(violations, v10);
+            violations = Violations.append(violations, v11);
+            return violations.toInvalid();
+        }
+    }
+
+    static final class LongBuilder2<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+
+        LongBuilder2(LongValidation<E> v1, LongValidation<E> v2) {
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction2<R> f) {
+            if (v1.isValid() && v2.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder3<E> combine(LongValidation<E> v3) {
+            return new LongBuilder3<>(v1, v2, v3);
+        }
+    }
+
+    static final class LongBuilder3<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+
+        LongBuilder3(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction3<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder4<E> combine(LongValidation<E> v4) {
+            return new LongBuilder4<>(v1, v2, v3, v4);
+        }
+    }
+
+    static final class LongBuilder4<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+        private final LongValidation<E> v4;
+
+        LongBuilder4(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction4<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong(), v4.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder5<E> combine(LongValidation<E> v5) {
+            return new LongBuilder5<>(v1, v2, v3, v4, v5);
+        }
+    }
+
+    static final class LongBuilder5<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+        private final LongValidation<E> v4;
+        private final LongValidation<E> v5;
+
+        LongBuilder5(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction5<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong(), v4.getAsLong(), v5.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder6<E> combine(LongValidation<E> v6) {
+            return new LongBuilder6<>(v1, v2, v3, v4, v5, v6);
+        }
+    }
+
+    static final class LongBuilder6<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+        private final LongValidation<E> v4;
+        private final LongValidation<E> v5;
+        private final LongValidation<E> v6;
+
+        LongBuilder6(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction6<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong(), v4.getAsLong(), v5.getAsLong(), v6.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder7<E> combine(LongValidation<E> v7) {
+            return new LongBuilder7<>(v1, v2, v3, v4, v5, v6, v7);
+        }
+    }
+
+    static final class LongBuilder7<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+        private final LongValidation<E> v4;
+        private final LongValidation<E> v5;
+        private final LongValidation<E> v6;
+        private final LongValidation<E> v7;
+
+        LongBuilder7(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction7<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong(), v4.getAsLong(), v5.getAsLong(), v6.getAsLong(), v7.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder8<E> combine(LongValidation<E> v8) {
+            return new LongBuilder8<>(v1, v2, v3, v4, v5, v6, v7, v8);
+        }
+    }
+
+    static final class LongBuilder8<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+        private final LongValidation<E> v4;
+        private final LongValidation<E> v5;
+        private final LongValidation<E> v6;
+        private final LongValidation<E> v7;
+        private final LongValidation<E> v8;
+
+        LongBuilder8(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongValidation<E> v8) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction8<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong(), v4.getAsLong(), v5.getAsLong(), v6.getAsLong(), v7.getAsLong(), v8.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder9<E> combine(LongValidation<E> v9) {
+            return new LongBuilder9<>(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+        }
+    }
+
+    static final class LongBuilder9<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+        private final LongValidation<E> v4;
+        private final LongValidation<E> v5;
+        private final LongValidation<E> v6;
+        private final LongValidation<E> v7;
+        private final LongValidation<E> v8;
+        private final LongValidation<E> v9;
+
+        LongBuilder9(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongValidation<E> v8, LongValidation<E> v9) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction9<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong(), v4.getAsLong(), v5.getAsLong(), v6.getAsLong(), v7.getAsLong(), v8.getAsLong(), v9.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder10<E> combine(LongValidation<E> v10) {
+            return new LongBuilder10<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+        }
+    }
+
+    static final class LongBuilder10<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+        private final LongValidation<E> v4;
+        private final LongValidation<E> v5;
+        private final LongValidation<E> v6;
+        private final LongValidation<E> v7;
+        private final LongValidation<E> v8;
+        private final LongValidation<E> v9;
+        private final LongValidation<E> v10;
+
+        LongBuilder10(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongValidation<E> v8, LongValidation<E> v9, LongValidation<E> v10) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction10<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong(), v4.getAsLong(), v5.getAsLong(), v6.getAsLong(), v7.getAsLong(), v8.getAsLong(), v9.getAsLong(), v10.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            violations = Violations.append(violations, v10);
+            return violations.toInvalid();
+        }
+
+        public LongBuilder11<E> combine(LongValidation<E> v11) {
+            return new LongBuilder11<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+        }
+    }
+
+    static final class LongBuilder11<E> {
+        private final LongValidation<E> v1;
+        private final LongValidation<E> v2;
+        private final LongValidation<E> v3;
+        private final LongValidation<E> v4;
+        private final LongValidation<E> v5;
+        private final LongValidation<E> v6;
+        private final LongValidation<E> v7;
+        private final LongValidation<E> v8;
+        private final LongValidation<E> v9;
+        private final LongValidation<E> v10;
+        private final LongValidation<E> v11;
+
+        LongBuilder11(LongValidation<E> v1, LongValidation<E> v2, LongValidation<E> v3, LongValidation<E> v4, LongValidation<E> v5, LongValidation<E> v6, LongValidation<E> v7, LongValidation<E> v8, LongValidation<E> v9, LongValidation<E> v10, LongValidation<E> v11) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+        }
+
+        public <R> Validation<E, R> apply(LongFunction11<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid()) {
+                return valid(f.apply(v1.getAsLong(), v2.getAsLong(), v3.getAsLong(), v4.getAsLong(), v5.getAsLong(), v6.getAsLong(), v7.getAsLong(), v8.getAsLong(), v9.getAsLong(), v10.getAsLong(), v11.getAsLong()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            violations = Violations.append(violations, v10);
+            violations = Violations.append(violations, v11);
+            return violations.toInvalid();
+        }
+    }
+
+    static final class DoubleBuilder2<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+
+        DoubleBuilder2(DoubleValidation<E> v1, DoubleValidation<E> v2) {
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction2<R> f) {
+            if (v1.isValid() && v2.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder3<E> combine(DoubleValidation<E> v3) {
+            return new DoubleBuilder3<>(v1, v2, v3);
+        }
+    }
+
+    static final class DoubleBuilder3<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+
+        DoubleBuilder3(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction3<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder4<E> combine(DoubleValidation<E> v4) {
+            return new DoubleBuilder4<>(v1, v2, v3, v4);
+        }
+    }
+
+    static final class DoubleBuilder4<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+        private final DoubleValidation<E> v4;
+
+        DoubleBuilder4(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction4<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble(), v4.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder5<E> combine(DoubleValidation<E> v5) {
+            return new DoubleBuilder5<>(v1, v2, v3, v4, v5);
+        }
+    }
+
+    static final class DoubleBuilder5<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+        private final DoubleValidation<E> v4;
+        private final DoubleValidation<E> v5;
+
+        DoubleBuilder5(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction5<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble(), v4.getAsDouble(), v5.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder6<E> combine(DoubleValidation<E> v6) {
+            return new DoubleBuilder6<>(v1, v2, v3, v4, v5, v6);
+        }
+    }
+
+    static final class DoubleBuilder6<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+        private final DoubleValidation<E> v4;
+        private final DoubleValidation<E> v5;
+        private final DoubleValidation<E> v6;
+
+        DoubleBuilder6(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction6<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble(), v4.getAsDouble(), v5.getAsDouble(), v6.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder7<E> combine(DoubleValidation<E> v7) {
+            return new DoubleBuilder7<>(v1, v2, v3, v4, v5, v6, v7);
+        }
+    }
+
+    static final class DoubleBuilder7<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+        private final DoubleValidation<E> v4;
+        private final DoubleValidation<E> v5;
+        private final DoubleValidation<E> v6;
+        private final DoubleValidation<E> v7;
+
+        DoubleBuilder7(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction7<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble(), v4.getAsDouble(), v5.getAsDouble(), v6.getAsDouble(), v7.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder8<E> combine(DoubleValidation<E> v8) {
+            return new DoubleBuilder8<>(v1, v2, v3, v4, v5, v6, v7, v8);
+        }
+    }
+
+    static final class DoubleBuilder8<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+        private final DoubleValidation<E> v4;
+        private final DoubleValidation<E> v5;
+        private final DoubleValidation<E> v6;
+        private final DoubleValidation<E> v7;
+        private final DoubleValidation<E> v8;
+
+        DoubleBuilder8(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleValidation<E> v8) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction8<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble(), v4.getAsDouble(), v5.getAsDouble(), v6.getAsDouble(), v7.getAsDouble(), v8.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder9<E> combine(DoubleValidation<E> v9) {
+            return new DoubleBuilder9<>(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+        }
+    }
+
+    static final class DoubleBuilder9<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+        private final DoubleValidation<E> v4;
+        private final DoubleValidation<E> v5;
+        private final DoubleValidation<E> v6;
+        private final DoubleValidation<E> v7;
+        private final DoubleValidation<E> v8;
+        private final DoubleValidation<E> v9;
+
+        DoubleBuilder9(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleValidation<E> v8, DoubleValidation<E> v9) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction9<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble(), v4.getAsDouble(), v5.getAsDouble(), v6.getAsDouble(), v7.getAsDouble(), v8.getAsDouble(), v9.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder10<E> combine(DoubleValidation<E> v10) {
+            return new DoubleBuilder10<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+        }
+    }
+
+    static final class DoubleBuilder10<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+        private final DoubleValidation<E> v4;
+        private final DoubleValidation<E> v5;
+        private final DoubleValidation<E> v6;
+        private final DoubleValidation<E> v7;
+        private final DoubleValidation<E> v8;
+        private final DoubleValidation<E> v9;
+        private final DoubleValidation<E> v10;
+
+        DoubleBuilder10(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleValidation<E> v8, DoubleValidation<E> v9, DoubleValidation<E> v10) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction10<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble(), v4.getAsDouble(), v5.getAsDouble(), v6.getAsDouble(), v7.getAsDouble(), v8.getAsDouble(), v9.getAsDouble(), v10.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            violations = Violations.append(violations, v10);
+            return violations.toInvalid();
+        }
+
+        public DoubleBuilder11<E> combine(DoubleValidation<E> v11) {
+            return new DoubleBuilder11<>(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+        }
+    }
+
+    static final class DoubleBuilder11<E> {
+        private final DoubleValidation<E> v1;
+        private final DoubleValidation<E> v2;
+        private final DoubleValidation<E> v3;
+        private final DoubleValidation<E> v4;
+        private final DoubleValidation<E> v5;
+        private final DoubleValidation<E> v6;
+        private final DoubleValidation<E> v7;
+        private final DoubleValidation<E> v8;
+        private final DoubleValidation<E> v9;
+        private final DoubleValidation<E> v10;
+        private final DoubleValidation<E> v11;
+
+        DoubleBuilder11(DoubleValidation<E> v1, DoubleValidation<E> v2, DoubleValidation<E> v3, DoubleValidation<E> v4, DoubleValidation<E> v5, DoubleValidation<E> v6, DoubleValidation<E> v7, DoubleValidation<E> v8, DoubleValidation<E> v9, DoubleValidation<E> v10, DoubleValidation<E> v11) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+        }
+
+        public <R> Validation<E, R> apply(DoubleFunction11<R> f) {
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid()) {
+                return valid(f.apply(v1.getAsDouble(), v2.getAsDouble(), v3.getAsDouble(), v4.getAsDouble(), v5.getAsDouble(), v6.getAsDouble(), v7.getAsDouble(), v8.getAsDouble(), v9.getAsDouble(), v10.getAsDouble(), v11.getAsDouble()));
+            }
+            Violations<E> violations = Violations.append(null, v1);
+            violations = Violations.append(violations, v2);
+            violations = Violations.append(violations, v3);
+            violations = Violations.append(violations, v4);
+            violations = Violations.append(violations, v5);
+            violations = Violations.append(violations, v6);
+            violations = Violations.append(violations, v7);
+            violations = Violations.append(violations, v8);
+            violations = Violations.append(violations, v9);
+            violations = Violations.append(violations, v10);
+            violations = Violations.append(violations, v11);
+            return violations.toInvalid();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.disc99.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import static io.disc99.validation.Validation.invalid;
+import static io.disc99.validation.Validation.invalidConstant;
+import static io.disc99.validation.Validation.valid;
+
+/**
+ * The rules of {@link Validator}, reporting structured {@link Violation}s instead of formatted messages.
+ *
+ * Failures without parameters return shared {@code Invalid}s. Failures with parameters allocate the
+ * {@code Violation}, its parameter array (except for two int bounds, see {@link Violation.Code#with(int, int)}),
+ * plus the one-element list, the violations node and the {@code Invalid} that carry it. No message is rendered
+ * until it is read.
+ */
+public final class Rules {
+
+    public static final Violation.Code NOT_NULL = Violation.Code.of("not_null", "may not be null");
+    public static final Violation.Code NOT_EMPTY = Violation.Code.of("not_empty", "may not be empty");
+    public static final Violation.Code NOT_EQUAL = Violation.Code.of("not_equal", "not equal");
+    public static final Violation.Code NOT_NUMBER = Violation.Code.of("not_number", "must be a number");
+    public static final Violation.Code PATTERN = Violation.Code.of("pattern", "must match \"%s\"");
+    public static final Violation.Code SIZE = Violation.Code.of("size", "size must be between %s and %s");
+    public static final Violation.Code CHARSET = Violation.Code.of("charset", "contains invalid characters: '%s'");
+
+    private static final Validation<Violation, ?> INVALID_NOT_NULL = invalidConstant(NOT_NULL.with());
+    private static final Validation<Violation, ?> INVALID_NOT_EMPTY = invalidConstant(NOT_EMPTY.with());
+    private static final Validation<Violation, ?> INVALID_NOT_EQUAL = invalidConstant(NOT_EQUAL.with());
+    private static final Validation<Violation, ?> INVALID_NOT_NUMBER = invalidConstant(NOT_NUMBER.with());
+
+    private Rules() {
+    }
+
+    public static <T> Validation<Violation, T> notNull(T target) {
+        return target == null ? shared(INVALID_NOT_NULL) : valid(target);
+    }
+
+    public static <T> Validation<Violation, T> required(T target) {
+        return target == null ? shared(INVALID_NOT_EMPTY) : valid(target);
+    }
+
+    public static Validation<Violation, String> equal(String target1, String target2) {
+        return Objects.equals(target1, target2) ? valid(target1) : shared(INVALID_NOT_EQUAL);
+    }
+
+    public static Validation<Violation, String> notEmpty(String target) {
+        return Util.isEmpty(target) ? shared(INVALID_NOT_EMPTY) : valid(target);
+    }
+
+    public static Validation<Violation, String> numeric(String target) {
+        return Util.isNumeric(target) ? valid(target) : shared(INVALID_NOT_NUMBER);
+    }
+
+    public static Validation<Violation, String> pattern(String target, String regexp) {
+        return PatternCache.shared().get(regexp).matcher(target).matches()
+                ? valid(target)
+                : invalid(PATTERN.with(regexp));
+    }
+
+    public static Validation<Violation, String> length(String target, int min, int max) {
+        return target.length() >= min && target.length() <= max
+                ? valid(target)
+                : invalid(SIZE.with(min, max));
+    }
+
+    public static Validation<Violation, Integer> size(Integer target, int min, int max) {
+        return target >= min && target <= max
+                ? valid(target)
+                : invalid(SIZE.with(min, max));
+    }
+
+    public static Validation<Violation, Long> size(Long target, long min, long max) {
+        return target >= min && target <= max
+                ? valid(target)
+                : invalid(SIZE.with(min, max));
+    }
+
+    public static Validation<Violation, Double> size(Double target, double min, double max) {
+        return target >= min && target <= max
+                ? valid(target)
+                : invalid(SIZE.with(min, max));
+    }
+
+    public static Validation<Violation, BigInteger> size(BigInteger target, BigInteger min, BigInteger max) {
+        return target.compareTo(min) >= 0 && target.compareTo(max) <= 0
+                ? valid(target)
+                : invalid(SIZE.with(min, max));
+    }
+
+    public static Validation<Violation, BigDecimal> size(BigDecimal target, BigDecimal min, BigDecimal max) {
+        return target.compareTo(min) >= 0 && target.compareTo(max) <= 0
+                ? valid(target)
+                : invalid(SIZE.with(min, max));
+    }
+
+    public static IntValidation<Violation> range(int target, int min, int max) {
+        return target >= min && target <= max
+                ? IntValidation.valid(target)
+                : IntValidation.invalid(SIZE.with(min, max));
+    }
+
+    public static LongValidation<Violation> range(long target, long min, long max) {
+        return target >= min && target <= max
+                ? LongValidation.valid(target)
+                : LongValidation.invalid(SIZE.with(min, max));
+    }
+
+    public static DoubleValidation<Violation> range(double target, double min, double max) {
+        return target >= min && target <= max
+                ? DoubleValidation.valid(target)
+                : DoubleValidation.invalid(SIZE.with(min, max));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Validation<Violation, T> shared(Validation<Violation, ?> invalid) {
+        return (Validation<Violation, T>) invalid;
+    }
+}
@@ -0,0 +1,355 @@
+package io.disc99.validation;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import static io.disc99.validation.SchemaBuilders.*;
+
+/**
+ * Describes the rules of a type once, so they can be compiled into a reusable {@link CompiledValidator}.
+ *
+ * <pre>{@code
+ * CompiledValidator<SignUpForm, String, User> validator = Schema.of(
+ *         Schema.field(SignUpForm::name, this::validName),
+ *         Schema.field(SignUpForm::pass, this::validPassword)
+ * ).apply(User::new);
+ * }</pre>
+ */
+public final class Schema {
+
+    private Schema() {
+    }
+
+    /**
+     * Creates a rule that validates the value read by {@code getter}.
+     *
+     * @param <A>    type of the validated object
+     * @param <F>    type of the field
+     * @param <E>    type of violation
+     * @param <T>    type of the valid value
+     * @param getter reads the field
+     * @param rule   validates the field
+     * @return a rule for the whole object
+     * @throws NullPointerException if getter or rule is null
+     */
+    public static <A, F, E, T> Function<A, Validation<E, T>> field(Function<? super A, ? extends F> getter, Function<? super F, ? extends Validation<E, T>> rule) {
+        Objects.requireNonNull(getter, "getter is null");
+        Objects.requireNonNull(rule, "rule is null");
+        return a -> rule.apply(getter.apply(a));
+    }
+
+    /**
+     * Describes a type by 2 rules, to be compiled with {@link SchemaBuilder2#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @return an instance of SchemaBuilder2&lt;A,E,T1,T2&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2> SchemaBuilder2<A, E, T1, T2> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        return new SchemaBuilder2<>(rule1, rule2);
+    }
+
+    /**
+     * Describes a type by 3 rules, to be compiled with {@link SchemaBuilder3#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @return an instance of SchemaBuilder3&lt;A,E,T1,T2,T3&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3> SchemaBuilder3<A, E, T1, T2, T3> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        return new SchemaBuilder3<>(rule1, rule2, rule3);
+    }
+
+    /**
+     * Describes a type by 4 rules, to be compiled with {@link SchemaBuilder4#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param <T4>   type of 4 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @param rule4 4 rule
+     * @return an instance of SchemaBuilder4&lt;A,E,T1,T2,T3,T4&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3, T4> SchemaBuilder4<A, E, T1, T2, T3, T4> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3, Function<? super A, ? extends Validation<E, T4>> rule4) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        Objects.requireNonNull(rule4, "rule4 is null");
+        return new SchemaBuilder4<>(rule1, rule2, rule3, rule4);
+    }
+
+    /**
+     * Describes a type by 5 rules, to be compiled with {@link SchemaBuilder5#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param <T4>   type of 4 valid value
+     * @param <T5>   type of 5 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @param rule4 4 rule
+     * @param rule5 5 rule
+     * @return an instance of SchemaBuilder5&lt;A,E,T1,T2,T3,T4,T5&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3, T4, T5> SchemaBuilder5<A, E, T1, T2, T3, T4, T5> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3, Function<? super A, ? extends Validation<E, T4>> rule4, Function<? super A, ? extends Validation<E, T5>> rule5) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        Objects.requireNonNull(rule4, "rule4 is null");
+        Objects.requireNonNull(rule5, "rule5 is null");
+        return new SchemaBuilder5<>(rule1, rule2, rule3, rule4, rule5);
+    }
+
+    /**
+     * Describes a type by 6 rules, to be compiled with {@link SchemaBuilder6#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param <T4>   type of 4 valid value
+     * @param <T5>   type of 5 valid value
+     * @param <T6>   type of 6 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @param rule4 4 rule
+     * @param rule5 5 rule
+     * @param rule6 6 rule
+     * @return an instance of SchemaBuilder6&lt;A,E,T1,T2,T3,T4,T5,T6&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3, T4, T5, T6> SchemaBuilder6<A, E, T1, T2, T3, T4, T5, T6> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3, Function<? super A, ? extends Validation<E, T4>> rule4, Function<? super A, ? extends Validation<E, T5>> rule5, Function<? super A, ? extends Validation<E, T6>> rule6) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        Objects.requireNonNull(rule4, "rule4 is null");
+        Objects.requireNonNull(rule5, "rule5 is null");
+        Objects.requireNonNull(rule6, "rule6 is null");
+        return new SchemaBuilder6<>(rule1, rule2, rule3, rule4, rule5, rule6);
+    }
+
+    /**
+     * Describes a type by 7 rules, to be compiled with {@link SchemaBuilder7#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param <T4>   type of 4 valid value
+     * @param <T5>   type of 5 valid value
+     * @param <T6>   type of 6 valid value
+     * @param <T7>   type of 7 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @param rule4 4 rule
+     * @param rule5 5 rule
+     * @param rule6 6 rule
+     * @param rule7 7 rule
+     * @return an instance of SchemaBuilder7&lt;A,E,T1,T2,T3,T4,T5,T6,T7&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3, T4, T5, T6, T7> SchemaBuilder7<A, E, T1, T2, T3, T4, T5, T6, T7> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3, Function<? super A, ? extends Validation<E, T4>> rule4, Function<? super A, ? extends Validation<E, T5>> rule5, Function<? super A, ? extends Validation<E, T6>> rule6, Function<? super A, ? extends Validation<E, T7>> rule7) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        Objects.requireNonNull(rule4, "rule4 is null");
+        Objects.requireNonNull(rule5, "rule5 is null");
+        Objects.requireNonNull(rule6, "rule6 is null");
+        Objects.requireNonNull(rule7, "rule7 is null");
+        return new SchemaBuilder7<>(rule1, rule2, rule3, rule4, rule5, rule6, rule7);
+    }
+
+    /**
+     * Describes a type by 8 rules, to be compiled with {@link SchemaBuilder8#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param <T4>   type of 4 valid value
+     * @param <T5>   type of 5 valid value
+     * @param <T6>   type of 6 valid value
+     * @param <T7>   type of 7 valid value
+     * @param <T8>   type of 8 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @param rule4 4 rule
+     * @param rule5 5 rule
+     * @param rule6 6 rule
+     * @param rule7 7 rule
+     * @param rule8 8 rule
+     * @return an instance of SchemaBuilder8&lt;A,E,T1,T2,T3,T4,T5,T6,T7,T8&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3, T4, T5, T6, T7, T8> SchemaBuilder8<A, E, T1, T2, T3, T4, T5, T6, T7, T8> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3, Function<? super A, ? extends Validation<E, T4>> rule4, Function<? super A, ? extends Validation<E, T5>> rule5, Function<? super A, ? extends Validation<E, T6>> rule6, Function<? super A, ? extends Validation<E, T7>> rule7, Function<? super A, ? extends Validation<E, T8>> rule8) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        Objects.requireNonNull(rule4, "rule4 is null");
+        Objects.requireNonNull(rule5, "rule5 is null");
+        Objects.requireNonNull(rule6, "rule6 is null");
+        Objects.requireNonNull(rule7, "rule7 is null");
+        Objects.requireNonNull(rule8, "rule8 is null");
+        return new SchemaBuilder8<>(rule1, rule2, rule3, rule4, rule5, rule6, rule7, rule8);
+    }
+
+    /**
+     * Describes a type by 9 rules, to be compiled with {@link SchemaBuilder9#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param <T4>   type of 4 valid value
+     * @param <T5>   type of 5 valid value
+     * @param <T6>   type of 6 valid value
+     * @param <T7>   type of 7 valid value
+     * @param <T8>   type of 8 valid value
+     * @param <T9>   type of 9 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @param rule4 4 rule
+     * @param rule5 5 rule
+     * @param rule6 6 rule
+     * @param rule7 7 rule
+     * @param rule8 8 rule
+     * @param rule9 9 rule
+     * @return an instance of SchemaBuilder9&lt;A,E,T1,T2,T3,T4,T5,T6,T7,T8,T9&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9> SchemaBuilder9<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3, Function<? super A, ? extends Validation<E, T4>> rule4, Function<? super A, ? extends Validation<E, T5>> rule5, Function<? super A, ? extends Validation<E, T6>> rule6, Function<? super A, ? extends Validation<E, T7>> rule7, Function<? super A, ? extends Validation<E, T8>> rule8, Function<? super A, ? extends Validation<E, T9>> rule9) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        Objects.requireNonNull(rule4, "rule4 is null");
+        Objects.requireNonNull(rule5, "rule5 is null");
+        Objects.requireNonNull(rule6, "rule6 is null");
+        Objects.requireNonNull(rule7, "rule7 is null");
+        Objects.requireNonNull(rule8, "rule8 is null");
+        Objects.requireNonNull(rule9, "rule9 is null");
+        return new SchemaBuilder9<>(rule1, rule2, rule3, rule4, rule5, rule6, rule7, rule8, rule9);
+    }
+
+    /**
+     * Describes a type by 10 rules, to be compiled with {@link SchemaBuilder10#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param <T4>   type of 4 valid value
+     * @param <T5>   type of 5 valid value
+     * @param <T6>   type of 6 valid value
+     * @param <T7>   type of 7 valid value
+     * @param <T8>   type of 8 valid value
+     * @param <T9>   type of 9 valid value
+     * @param <T10>   type of 10 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @param rule4 4 rule
+     * @param rule5 5 rule
+     * @param rule6 6 rule
+     * @param rule7 7 rule
+     * @param rule8 8 rule
+     * @param rule9 9 rule
+     * @param rule10 10 rule
+     * @return an instance of SchemaBuilder10&lt;A,E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> SchemaBuilder10<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3, Function<? super A, ? extends Validation<E, T4>> rule4, Function<? super A, ? extends Validation<E, T5>> rule5, Function<? super A, ? extends Validation<E, T6>> rule6, Function<? super A, ? extends Validation<E, T7>> rule7, Function<? super A, ? extends Validation<E, T8>> rule8, Function<? super A, ? extends Validation<E, T9>> rule9, Function<? super A, ? extends Validation<E, T10>> rule10) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        Objects.requireNonNull(rule4, "rule4 is null");
+        Objects.requireNonNull(rule5, "rule5 is null");
+        Objects.requireNonNull(rule6, "rule6 is null");
+        Objects.requireNonNull(rule7, "rule7 is null");
+        Objects.requireNonNull(rule8, "rule8 is null");
+        Objects.requireNonNull(rule9, "rule9 is null");
+        Objects.requireNonNull(rule10, "rule10 is null");
+        return new SchemaBuilder10<>(rule1, rule2, rule3, rule4, rule5, rule6, rule7, rule8, rule9, rule10);
+    }
+
+    /**
+     * Describes a type by 11 rules, to be compiled with {@link SchemaBuilder11#apply}.
+     *
+     * @param <A>    type of the validated object
+     * @param <E>    type of violation
+     * @param <T1>   type of 1 valid value
+     * @param <T2>   type of 2 valid value
+     * @param <T3>   type of 3 valid value
+     * @param <T4>   type of 4 valid value
+     * @param <T5>   type of 5 valid value
+     * @param <T6>   type of 6 valid value
+     * @param <T7>   type of 7 valid value
+     * @param <T8>   type of 8 valid value
+     * @param <T9>   type of 9 valid value
+     * @param <T10>   type of 10 valid value
+     * @param <T11>   type of 11 valid value
+     * @param rule1 1 rule
+     * @param rule2 2 rule
+     * @param rule3 3 rule
+     * @param rule4 4 rule
+     * @param rule5 5 rule
+     * @param rule6 6 rule
+     * @param rule7 7 rule
+     * @param rule8 8 rule
+     * @param rule9 9 rule
+     * @param rule10 10 rule
+     * @param rule11 11 rule
+     * @return an instance of SchemaBuilder11&lt;A,E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11&gt;
+     * @throws NullPointerException if any rule is null
+     */
+    public static <A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> SchemaBuilder11<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> of(Function<? super A, ? extends Validation<E, T1>> rule1, Function<? super A, ? extends Validation<E, T2>> rule2, Function<? super A, ? extends Validation<E, T3>> rule3, Function<? super A, ? extends Validation<E, T4>> rule4, Function<? super A, ? extends Validation<E, T5>> rule5, Function<? super A, ? extends Validation<E, T6>> rule6, Function<? super A, ? extends Validation<E, T7>> rule7, Function<? super A, ? extends Validation<E, T8>> rule8, Function<? super A, ? extends Validation<E, T9>> rule9, Function<? super A, ? extends Validation<E, T10>> rule10, Function<? super A, ? extends Validation<E, T11>> rule11) {
+        Objects.requireNonNull(rule1, "rule1 is null");
+        Objects.requireNonNull(rule2, "rule2 is null");
+        Objects.requireNonNull(rule3, "rule3 is null");
+        Objects.requireNonNull(rule4, "rule4 is null");
+        Objects.requireNonNull(rule5, "rule5 is null");
+        Objects.requireNonNull(rule6, "rule6 is null");
+        Objects.requireNonNull(rule7, "rule7 is null");
+        Objects.requireNonNull(rule8, "rule8 is null");
+        Objects.requireNonNull(rule9, "rule9 is null");
+        Objects.requireNonNull(rule10, "rule10 is null");
+        Objects.requireNonNull(rule11, "rule11 is null");
+        return new SchemaBuilder11<>(rule1, rule2, rule3, rule4, rule5, rule6, rule7, rule8, rule9, rule10, rule11);
+    }
+}
@@ -0,0 +1,355 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+final class SchemaBuilders {
+
+    /**
+     * Collects the rules of a schema into a typed array, without the raw {@code new Function[]} of each arity.
+     * Safe because the array is only read, by {@link InterpretedValidator}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    private static <A, E> Function<? super A, ? extends Validation<E, ?>>[] rules(Function<? super A, ? extends Validation<E, ?>>... rules) {
+        return rules;
+    }
+
+    static final class SchemaBuilder2<A, E, T1, T2> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+
+        SchemaBuilder2(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2) {
+            this.r1 = r1;
+            this.r2 = r2;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(BiFunction<T1, T2, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2), values -> f.apply((T1) values[0], (T2) values[1]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(BiFunction<T1, T2, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine2.class,
+                    new Class<?>[]{Function.class, Function.class, BiFunction.class}, r1, r2, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine2<>(r1, r2, f);
+        }
+
+        public <T3> SchemaBuilder3<A, E, T1, T2, T3> rule(Function<? super A, ? extends Validation<E, T3>> r3) {
+            return new SchemaBuilder3<>(r1, r2, r3);
+        }
+    }
+
+    static final class SchemaBuilder3<A, E, T1, T2, T3> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+
+        SchemaBuilder3(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function3<T1, T2, T3, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function3<T1, T2, T3, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine3.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function3.class}, r1, r2, r3, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine3<>(r1, r2, r3, f);
+        }
+
+        public <T4> SchemaBuilder4<A, E, T1, T2, T3, T4> rule(Function<? super A, ? extends Validation<E, T4>> r4) {
+            return new SchemaBuilder4<>(r1, r2, r3, r4);
+        }
+    }
+
+    static final class SchemaBuilder4<A, E, T1, T2, T3, T4> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+        private final Function<? super A, ? extends Validation<E, T4>> r4;
+
+        SchemaBuilder4(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function4<T1, T2, T3, T4, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3, r4), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function4<T1, T2, T3, T4, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine4.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function.class, Function4.class}, r1, r2, r3, r4, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine4<>(r1, r2, r3, r4, f);
+        }
+
+        public <T5> SchemaBuilder5<A, E, T1, T2, T3, T4, T5> rule(Function<? super A, ? extends Validation<E, T5>> r5) {
+            return new SchemaBuilder5<>(r1, r2, r3, r4, r5);
+        }
+    }
+
+    static final class SchemaBuilder5<A, E, T1, T2, T3, T4, T5> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+        private final Function<? super A, ? extends Validation<E, T4>> r4;
+        private final Function<? super A, ? extends Validation<E, T5>> r5;
+
+        SchemaBuilder5(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function5<T1, T2, T3, T4, T5, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3, r4, r5), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function5<T1, T2, T3, T4, T5, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine5.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function.class, Function.class, Function5.class}, r1, r2, r3, r4, r5, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine5<>(r1, r2, r3, r4, r5, f);
+        }
+
+        public <T6> SchemaBuilder6<A, E, T1, T2, T3, T4, T5, T6> rule(Function<? super A, ? extends Validation<E, T6>> r6) {
+            return new SchemaBuilder6<>(r1, r2, r3, r4, r5, r6);
+        }
+    }
+
+    static final class SchemaBuilder6<A, E, T1, T2, T3, T4, T5, T6> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+        private final Function<? super A, ? extends Validation<E, T4>> r4;
+        private final Function<? super A, ? extends Validation<E, T5>> r5;
+        private final Function<? super A, ? extends Validation<E, T6>> r6;
+
+        SchemaBuilder6(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function6<T1, T2, T3, T4, T5, T6, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3, r4, r5, r6), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function6<T1, T2, T3, T4, T5, T6, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine6.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function6.class}, r1, r2, r3, r4, r5, r6, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine6<>(r1, r2, r3, r4, r5, r6, f);
+        }
+
+        public <T7> SchemaBuilder7<A, E, T1, T2, T3, T4, T5, T6, T7> rule(Function<? super A, ? extends Validation<E, T7>> r7) {
+            return new SchemaBuilder7<>(r1, r2, r3, r4, r5, r6, r7);
+        }
+    }
+
+    static final class SchemaBuilder7<A, E, T1, T2, T3, T4, T5, T6, T7> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+        private final Function<? super A, ? extends Validation<E, T4>> r4;
+        private final Function<? super A, ? extends Validation<E, T5>> r5;
+        private final Function<? super A, ? extends Validation<E, T6>> r6;
+        private final Function<? super A, ? extends Validation<E, T7>> r7;
+
+        SchemaBuilder7(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3, r4, r5, r6, r7), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine7.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function7.class}, r1, r2, r3, r4, r5, r6, r7, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine7<>(r1, r2, r3, r4, r5, r6, r7, f);
+        }
+
+        public <T8> SchemaBuilder8<A, E, T1, T2, T3, T4, T5, T6, T7, T8> rule(Function<? super A, ? extends Validation<E, T8>> r8) {
+            return new SchemaBuilder8<>(r1, r2, r3, r4, r5, r6, r7, r8);
+        }
+    }
+
+    static final class SchemaBuilder8<A, E, T1, T2, T3, T4, T5, T6, T7, T8> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+        private final Function<? super A, ? extends Validation<E, T4>> r4;
+        private final Function<? super A, ? extends Validation<E, T5>> r5;
+        private final Function<? super A, ? extends Validation<E, T6>> r6;
+        private final Function<? super A, ? extends Validation<E, T7>> r7;
+        private final Function<? super A, ? extends Validation<E, T8>> r8;
+
+        SchemaBuilder8(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function<? super A, ? extends Validation<E, T8>> r8) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3, r4, r5, r6, r7, r8), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine8.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function8.class}, r1, r2, r3, r4, r5, r6, r7, r8, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine8<>(r1, r2, r3, r4, r5, r6, r7, r8, f);
+        }
+
+        public <T9> SchemaBuilder9<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9> rule(Function<? super A, ? extends Validation<E, T9>> r9) {
+            return new SchemaBuilder9<>(r1, r2, r3, r4, r5, r6, r7, r8, r9);
+        }
+    }
+
+    static final class SchemaBuilder9<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+        private final Function<? super A, ? extends Validation<E, T4>> r4;
+        private final Function<? super A, ? extends Validation<E, T5>> r5;
+        private final Function<? super A, ? extends Validation<E, T6>> r6;
+        private final Function<? super A, ? extends Validation<E, T7>> r7;
+        private final Function<? super A, ? extends Validation<E, T8>> r8;
+        private final Function<? super A, ? extends Validation<E, T9>> r9;
+
+        SchemaBuilder9(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function<? super A, ? extends Validation<E, T8>> r8, Function<? super A, ? extends Validation<E, T9>> r9) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+            this.r9 = r9;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3, r4, r5, r6, r7, r8, r9), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7], (T9) values[8]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine9.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function9.class}, r1, r2, r3, r4, r5, r6, r7, r8, r9, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine9<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, f);
+        }
+
+        public <T10> SchemaBuilder10<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> rule(Function<? super A, ? extends Validation<E, T10>> r10) {
+            return new SchemaBuilder10<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10);
+        }
+    }
+
+    static final class SchemaBuilder10<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+        private final Function<? super A, ? extends Validation<E, T4>> r4;
+        private final Function<? super A, ? extends Validation<E, T5>> r5;
+        private final Function<? super A, ? extends Validation<E, T6>> r6;
+        private final Function<? super A, ? extends Validation<E, T7>> r7;
+        private final Function<? super A, ? extends Validation<E, T8>> r8;
+        private final Function<? super A, ? extends Validation<E, T9>> r9;
+        private final Function<? super A, ? extends Validation<E, T10>> r10;
+
+        SchemaBuilder10(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function<? super A, ? extends Validation<E, T8>> r8, Function<? super A, ? extends Validation<E, T9>> r9, Function<? super A, ? extends Validation<E, T10>> r10) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+            this.r9 = r9;
+            this.r10 = r10;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7], (T9) values[8], (T10) values[9]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine10.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function10.class}, r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine10<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, f);
+        }
+
+        public <T11> SchemaBuilder11<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> rule(Function<? super A, ? extends Validation<E, T11>> r11) {
+            return new SchemaBuilder11<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11);
+        }
+    }
+
+    static final class SchemaBuilder11<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> {
+        private final Function<? super A, ? extends Validation<E, T1>> r1;
+        private final Function<? super A, ? extends Validation<E, T2>> r2;
+        private final Function<? super A, ? extends Validation<E, T3>> r3;
+        private final Function<? super A, ? extends Validation<E, T4>> r4;
+        private final Function<? super A, ? extends Validation<E, T5>> r5;
+        private final Function<? super A, ? extends Validation<E, T6>> r6;
+        private final Function<? super A, ? extends Validation<E, T7>> r7;
+        private final Function<? super A, ? extends Validation<E, T8>> r8;
+        private final Function<? super A, ? extends Validation<E, T9>> r9;
+        private final Function<? super A, ? extends Validation<E, T10>> r10;
+        private final Function<? super A, ? extends Validation<E, T11>> r11;
+
+        SchemaBuilder11(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function<? super A, ? extends Validation<E, T8>> r8, Function<? super A, ? extends Validation<E, T9>> r9, Function<? super A, ? extends Validation<E, T10>> r10, Function<? super A, ? extends Validation<E, T11>> r11) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+            this.r9 = r9;
+            this.r10 = r10;
+            this.r11 = r11;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> CompiledValidator<A, E, R> apply(Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+            return new InterpretedValidator<>(rules(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11), values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7], (T9) values[8], (T10) values[9], (T11) values[10]));
+        }
+
+        public <R> CompiledValidator<A, E, R> cloneTemplate(Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+            CompiledValidator<A, E, R> cloned = TemplateCloner.cloneOf(StraightLines.StraightLine11.class,
+                    new Class<?>[]{Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function.class, Function11.class}, r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, f);
+            return cloned != null ? cloned : new StraightLines.StraightLine11<>(r1, r2, r3, r4, r5, r6, r7, r8, r9, r10, r11, f);
+        }
+    }
+}
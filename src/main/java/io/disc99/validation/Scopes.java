@@ -0,0 +1,42 @@
+package io.disc99.validation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The executor that runs the checks of {@link StructuredValidation} calls.
+ *
+ * This is the Java 8 version: one pool of daemon platform threads, shared by all calls. It starts at most
+ * {@code io.disc99.validation.scopeThreads} threads (64 by default, read once); further checks wait in its
+ * queue, and idle threads stop after a minute. Checks that themselves run a {@code StructuredValidation}
+ * hold a thread while they wait, so nesting deeper than the pool allows can stall. The multi-release JAR
+ * replaces it with virtual threads on Java 21 and later (see {@code src/main/java21}).
+ */
+final class Scopes {
+
+    private static final int THREADS = Integer.getInteger("io.disc99.validation.scopeThreads", 64);
+
+    private static final ExecutorService EXECUTOR = executor(THREADS);
+
+    private Scopes() {
+    }
+
+    static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    private static ExecutorService executor(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("io.disc99.validation.scopeThreads must be positive: " + threads);
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "validation-scope");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,373 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Straight-line validators, one per arity: every rule is a field and every check an unrolled statement.
+ *
+ * They are the templates of {@link TemplateCloner}, which may copy them into a class of their own per schema.
+ * Keep them free of lambdas and private member access so that such copies stay valid.
+ */
+final class StraightLines {
+
+    private StraightLines() {
+    }
+
+    static final class StraightLine2<A, E, T1, T2, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final BiFunction<T1, T2, R> f;
+
+        StraightLine2(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, BiFunction<T1, T2, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            if (v1.isValid() && v2.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get()));
+            }
+            return Builders.invalidOf(v1, v2);
+        }
+    }
+
+    static final class StraightLine3<A, E, T1, T2, T3, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function3<T1, T2, T3, R> f;
+
+        StraightLine3(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function3<T1, T2, T3, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3);
+        }
+    }
+
+    static final class StraightLine4<A, E, T1, T2, T3, T4, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function<? super A, ? extends Validation<E, T4>> r4;
+        final Function4<T1, T2, T3, T4, R> f;
+
+        StraightLine4(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function4<T1, T2, T3, T4, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            Validation<E, T4> v4 = r4.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3, v4);
+        }
+    }
+
+    static final class StraightLine5<A, E, T1, T2, T3, T4, T5, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function<? super A, ? extends Validation<E, T4>> r4;
+        final Function<? super A, ? extends Validation<E, T5>> r5;
+        final Function5<T1, T2, T3, T4, T5, R> f;
+
+        StraightLine5(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function5<T1, T2, T3, T4, T5, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            Validation<E, T4> v4 = r4.apply(target);
+            Validation<E, T5> v5 = r5.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3, v4, v5);
+        }
+    }
+
+    static final class StraightLine6<A, E, T1, T2, T3, T4, T5, T6, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function<? super A, ? extends Validation<E, T4>> r4;
+        final Function<? super A, ? extends Validation<E, T5>> r5;
+        final Function<? super A, ? extends Validation<E, T6>> r6;
+        final Function6<T1, T2, T3, T4, T5, T6, R> f;
+
+        StraightLine6(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function6<T1, T2, T3, T4, T5, T6, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            Validation<E, T4> v4 = r4.apply(target);
+            Validation<E, T5> v5 = r5.apply(target);
+            Validation<E, T6> v6 = r6.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3, v4, v5, v6);
+        }
+    }
+
+    static final class StraightLine7<A, E, T1, T2, T3, T4, T5, T6, T7, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function<? super A, ? extends Validation<E, T4>> r4;
+        final Function<? super A, ? extends Validation<E, T5>> r5;
+        final Function<? super A, ? extends Validation<E, T6>> r6;
+        final Function<? super A, ? extends Validation<E, T7>> r7;
+        final Function7<T1, T2, T3, T4, T5, T6, T7, R> f;
+
+        StraightLine7(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            Validation<E, T4> v4 = r4.apply(target);
+            Validation<E, T5> v5 = r5.apply(target);
+            Validation<E, T6> v6 = r6.apply(target);
+            Validation<E, T7> v7 = r7.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3, v4, v5, v6, v7);
+        }
+    }
+
+    static final class StraightLine8<A, E, T1, T2, T3, T4, T5, T6, T7, T8, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function<? super A, ? extends Validation<E, T4>> r4;
+        final Function<? super A, ? extends Validation<E, T5>> r5;
+        final Function<? super A, ? extends Validation<E, T6>> r6;
+        final Function<? super A, ? extends Validation<E, T7>> r7;
+        final Function<? super A, ? extends Validation<E, T8>> r8;
+        final Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f;
+
+        StraightLine8(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function<? super A, ? extends Validation<E, T8>> r8, Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            Validation<E, T4> v4 = r4.apply(target);
+            Validation<E, T5> v5 = r5.apply(target);
+            Validation<E, T6> v6 = r6.apply(target);
+            Validation<E, T7> v7 = r7.apply(target);
+            Validation<E, T8> v8 = r8.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3, v4, v5, v6, v7, v8);
+        }
+    }
+
+    static final class StraightLine9<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function<? super A, ? extends Validation<E, T4>> r4;
+        final Function<? super A, ? extends Validation<E, T5>> r5;
+        final Function<? super A, ? extends Validation<E, T6>> r6;
+        final Function<? super A, ? extends Validation<E, T7>> r7;
+        final Function<? super A, ? extends Validation<E, T8>> r8;
+        final Function<? super A, ? extends Validation<E, T9>> r9;
+        final Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f;
+
+        StraightLine9(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function<? super A, ? extends Validation<E, T8>> r8, Function<? super A, ? extends Validation<E, T9>> r9, Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+            this.r9 = r9;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            Validation<E, T4> v4 = r4.apply(target);
+            Validation<E, T5> v5 = r5.apply(target);
+            Validation<E, T6> v6 = r6.apply(target);
+            Validation<E, T7> v7 = r7.apply(target);
+            Validation<E, T8> v8 = r8.apply(target);
+            Validation<E, T9> v9 = r9.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+        }
+    }
+
+    static final class StraightLine10<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function<? super A, ? extends Validation<E, T4>> r4;
+        final Function<? super A, ? extends Validation<E, T5>> r5;
+        final Function<? super A, ? extends Validation<E, T6>> r6;
+        final Function<? super A, ? extends Validation<E, T7>> r7;
+        final Function<? super A, ? extends Validation<E, T8>> r8;
+        final Function<? super A, ? extends Validation<E, T9>> r9;
+        final Function<? super A, ? extends Validation<E, T10>> r10;
+        final Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f;
+
+        StraightLine10(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function<? super A, ? extends Validation<E, T8>> r8, Function<? super A, ? extends Validation<E, T9>> r9, Function<? super A, ? extends Validation<E, T10>> r10, Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+            this.r9 = r9;
+            this.r10 = r10;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            Validation<E, T4> v4 = r4.apply(target);
+            Validation<E, T5> v5 = r5.apply(target);
+            Validation<E, T6> v6 = r6.apply(target);
+            Validation<E, T7> v7 = r7.apply(target);
+            Validation<E, T8> v8 = r8.apply(target);
+            Validation<E, T9> v9 = r9.apply(target);
+            Validation<E, T10> v10 = r10.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+        }
+    }
+
+    static final class StraightLine11<A, E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> extends CompiledValidator<A, E, R> {
+        final Function<? super A, ? extends Validation<E, T1>> r1;
+        final Function<? super A, ? extends Validation<E, T2>> r2;
+        final Function<? super A, ? extends Validation<E, T3>> r3;
+        final Function<? super A, ? extends Validation<E, T4>> r4;
+        final Function<? super A, ? extends Validation<E, T5>> r5;
+        final Function<? super A, ? extends Validation<E, T6>> r6;
+        final Function<? super A, ? extends Validation<E, T7>> r7;
+        final Function<? super A, ? extends Validation<E, T8>> r8;
+        final Function<? super A, ? extends Validation<E, T9>> r9;
+        final Function<? super A, ? extends Validation<E, T10>> r10;
+        final Function<? super A, ? extends Validation<E, T11>> r11;
+        final Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f;
+
+        StraightLine11(Function<? super A, ? extends Validation<E, T1>> r1, Function<? super A, ? extends Validation<E, T2>> r2, Function<? super A, ? extends Validation<E, T3>> r3, Function<? super A, ? extends Validation<E, T4>> r4, Function<? super A, ? extends Validation<E, T5>> r5, Function<? super A, ? extends Validation<E, T6>> r6, Function<? super A, ? extends Validation<E, T7>> r7, Function<? super A, ? extends Validation<E, T8>> r8, Function<? super A, ? extends Validation<E, T9>> r9, Function<? super A, ? extends Validation<E, T10>> r10, Function<? super A, ? extends Validation<E, T11>> r11, Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+            this.r1 = r1;
+            this.r2 = r2;
+            this.r3 = r3;
+            this.r4 = r4;
+            this.r5 = r5;
+            this.r6 = r6;
+            this.r7 = r7;
+            this.r8 = r8;
+            this.r9 = r9;
+            this.r10 = r10;
+            this.r11 = r11;
+            this.f = f;
+        }
+
+        @Override
+        public Validation<E, R> validate(A target) {
+            Validation<E, T1> v1 = r1.apply(target);
+            Validation<E, T2> v2 = r2.apply(target);
+            Validation<E, T3> v3 = r3.apply(target);
+            Validation<E, T4> v4 = r4.apply(target);
+            Validation<E, T5> v5 = r5.apply(target);
+            Validation<E, T6> v6 = r6.apply(target);
+            Validation<E, T7> v7 = r7.apply(target);
+            Validation<E, T8> v8 = r8.apply(target);
+            Validation<E, T9> v9 = r9.apply(target);
+            Validation<E, T10> v10 = r10.apply(target);
+            Validation<E, T11> v11 = r11.apply(target);
+            if (v1.isValid() && v2.isValid() && v3.isValid() && v4.isValid() && v5.isValid() && v6.isValid() && v7.isValid() && v8.isValid() && v9.isValid() && v10.isValid() && v11.isValid()) {
+                return Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get(), v9.get(), v10.get(), v11.get()));
+            }
+            return Builders.invalidOf(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+        }
+    }
+}
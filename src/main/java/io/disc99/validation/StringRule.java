@@ -0,0 +1,196 @@
+package io.disc99.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * Several character level rules fused into a single pass over a {@code CharSequence}.
+ *
+ * <pre>{@code
+ * StringRule name = StringRule.builder()
+ *         .notEmpty()
+ *         .length(1, 20)
+ *         .allowed(c -> Character.isLetter(c) || c == ' ')
+ *         .build();
+ * Validation<Violation, String> result = name.apply(input);
+ * }</pre>
+ *
+ * The input is scanned at most once, whatever the number of rules, and every violated rule is reported,
+ * in the order the rules were added. Immutable and thread-safe.
+ */
+public final class StringRule {
+
+    private static final int NOT_EMPTY = 0;
+    private static final int LENGTH = 1;
+    private static final int NUMERIC = 2;
+    private static final int ALLOWED = 3;
+
+    private final int[] rules;
+    private final boolean notEmpty;
+    private final boolean length;
+    private final int min;
+    private final int max;
+    private final boolean numeric;
+    private final IntPredicate allowed;
+
+    private StringRule(Builder builder) {
+        this.rules = Arrays.copyOf(builder.rules, builder.count);
+        this.notEmpty = builder.notEmpty;
+        this.length = builder.length;
+        this.min = builder.min;
+        this.max = builder.max;
+        this.numeric = builder.numeric;
+        this.allowed = builder.allowed;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validates {@code input} against every rule in one scan.
+     * A {@code null} input violates only {@link Rules#NOT_EMPTY} if {@code notEmpty} was added,
+     * and {@link Rules#NOT_NULL} otherwise.
+     *
+     * @param <S>   type of the input
+     * @param input the character sequence to validate
+     * @return {@code Valid(input)}, or {@code Invalid} with a violation per broken rule
+     */
+    public <S extends CharSequence> Validation<Violation, S> apply(S input) {
+        if (input == null) {
+            return Validation.invalidConstant(notEmpty ? Rules.NOT_EMPTY.with() : Rules.NOT_NULL.with());
+        }
+        int n = input.length();
+        boolean notNumeric = numeric && n == 0;
+        CharClass.Offenders offending = null;
+        if ((numeric && !notNumeric) || allowed != null) {
+            for (int i = 0; i < n; ) {
+                int c = Character.codePointAt(input, i);
+                if (numeric && !notNumeric && !Character.isDigit(c)) {
+                    notNumeric = true;
+                    if (allowed == null) {
+                        break;
+                    }
+                }
+                if (allowed != null && !allowed.test(c)) {
+                    if (offending == null) {
+                        offending = new CharClass.Offenders();
+                    }
+                    offending.add(c);
+                }
+                i += Character.charCount(c);
+            }
+        }
+
+        List<Violation> violations = null;
+        for (int rule : rules) {
+            Violation violation = null;
+            switch (rule) {
+                case NOT_EMPTY:
+                    violation = n == 0 ? Rules.NOT_EMPTY.with() : null;
+                    break;
+                case LENGTH:
+                    violation = n < min || n > max ? Rules.SIZE.with(min, max) : null;
+                    break;
+                case NUMERIC:
+                    violation = notNumeric ? Rules.NOT_NUMBER.with() : null;
+                    break;
+                case ALLOWED:
+                    violation = offending != null ? offending.toViolation() : null;
+                    break;
+            }
+            if (violation != null) {
+                if (violations == null) {
+                    violations = new ArrayList<>(rules.length);
+                }
+                violations.add(violation);
+            }
+        }
+        return violations == null ? Validation.valid(input) : Violations.owned(violations).toInvalid();
+    }
+
+    /**
+     * Collects the rules of a {@link StringRule}. Each rule can be added once.
+     */
+    public static final class Builder {
+
+        private final int[] rules = new int[4];
+        private int count;
+        private boolean notEmpty;
+        private boolean length;
+        private int min;
+        private int max;
+        private boolean numeric;
+        private IntPredicate allowed;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a rule that reports {@link Rules#NOT_EMPTY} for empty input.
+         *
+         * @return this builder
+         */
+        public Builder notEmpty() {
+            add(NOT_EMPTY, notEmpty);
+            notEmpty = true;
+            return this;
+        }
+
+        /**
+         * Adds a rule that reports {@link Rules#SIZE} unless the number of {@code char}s is between
+         * {@code min} and {@code max}, inclusive.
+         *
+         * @param min minimum length
+         * @param max maximum length
+         * @return this builder
+         */
+        public Builder length(int min, int max) {
+            add(LENGTH, length);
+            length = true;
+            this.min = min;
+            this.max = max;
+            return this;
+        }
+
+        /**
+         * Adds a rule that reports {@link Rules#NOT_NUMBER} unless the input is a non-empty sequence of digits.
+         *
+         * @return this builder
+         */
+        public Builder numeric() {
+            add(NUMERIC, numeric);
+            numeric = true;
+            return this;
+        }
+
+        /**
+         * Adds a rule that reports {@link Rules#CHARSET} with every code point not accepted by {@code allowed},
+         * once each, in the order they first occur. Pass a {@link CharClass} for a table lookup per character.
+         *
+         * @param allowed accepts the allowed code points
+         * @return this builder
+         * @throws NullPointerException if allowed is null
+         */
+        public Builder allowed(IntPredicate allowed) {
+            Objects.requireNonNull(allowed, "allowed is null");
+            add(ALLOWED, this.allowed != null);
+            this.allowed = allowed;
+            return this;
+        }
+
+        public StringRule build() {
+            return new StringRule(this);
+        }
+
+        private void add(int rule, boolean added) {
+            if (added) {
+                throw new IllegalStateException("rule already added");
+            }
+            rules[count++] = rule;
+        }
+    }
+}
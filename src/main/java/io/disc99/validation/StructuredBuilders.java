@@ -0,0 +1,305 @@
+package io.disc99.validation;
+
+import io.disc99.function.*;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+final class StructuredBuilders {
+
+    static final class StructuredBuilder2<E, T1, T2> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+
+        StructuredBuilder2(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(BiFunction<T1, T2, R> f) {
+            return scope.<E>run(v1, v2).map(values -> f.apply((T1) values[0], (T2) values[1]));
+        }
+
+        public <T3> StructuredBuilder3<E, T1, T2, T3> combine(Supplier<? extends Validation<E, T3>> v3) {
+            return new StructuredBuilder3<>(scope, v1, v2, v3);
+        }
+    }
+
+    static final class StructuredBuilder3<E, T1, T2, T3> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+
+        StructuredBuilder3(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function3<T1, T2, T3, R> f) {
+            return scope.<E>run(v1, v2, v3).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2]));
+        }
+
+        public <T4> StructuredBuilder4<E, T1, T2, T3, T4> combine(Supplier<? extends Validation<E, T4>> v4) {
+            return new StructuredBuilder4<>(scope, v1, v2, v3, v4);
+        }
+    }
+
+    static final class StructuredBuilder4<E, T1, T2, T3, T4> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+
+        StructuredBuilder4(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function4<T1, T2, T3, T4, R> f) {
+            return scope.<E>run(v1, v2, v3, v4).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3]));
+        }
+
+        public <T5> StructuredBuilder5<E, T1, T2, T3, T4, T5> combine(Supplier<? extends Validation<E, T5>> v5) {
+            return new StructuredBuilder5<>(scope, v1, v2, v3, v4, v5);
+        }
+    }
+
+    static final class StructuredBuilder5<E, T1, T2, T3, T4, T5> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+
+        StructuredBuilder5(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function5<T1, T2, T3, T4, T5, R> f) {
+            return scope.<E>run(v1, v2, v3, v4, v5).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4]));
+        }
+
+        public <T6> StructuredBuilder6<E, T1, T2, T3, T4, T5, T6> combine(Supplier<? extends Validation<E, T6>> v6) {
+            return new StructuredBuilder6<>(scope, v1, v2, v3, v4, v5, v6);
+        }
+    }
+
+    static final class StructuredBuilder6<E, T1, T2, T3, T4, T5, T6> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+
+        StructuredBuilder6(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function6<T1, T2, T3, T4, T5, T6, R> f) {
+            return scope.<E>run(v1, v2, v3, v4, v5, v6).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5]));
+        }
+
+        public <T7> StructuredBuilder7<E, T1, T2, T3, T4, T5, T6, T7> combine(Supplier<? extends Validation<E, T7>> v7) {
+            return new StructuredBuilder7<>(scope, v1, v2, v3, v4, v5, v6, v7);
+        }
+    }
+
+    static final class StructuredBuilder7<E, T1, T2, T3, T4, T5, T6, T7> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+
+        StructuredBuilder7(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+            return scope.<E>run(v1, v2, v3, v4, v5, v6, v7).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6]));
+        }
+
+        public <T8> StructuredBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combine(Supplier<? extends Validation<E, T8>> v8) {
+            return new StructuredBuilder8<>(scope, v1, v2, v3, v4, v5, v6, v7, v8);
+        }
+    }
+
+    static final class StructuredBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+        private final Supplier<? extends Validation<E, T8>> v8;
+
+        StructuredBuilder8(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+            return scope.<E>run(v1, v2, v3, v4, v5, v6, v7, v8).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7]));
+        }
+
+        public <T9> StructuredBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> combine(Supplier<? extends Validation<E, T9>> v9) {
+            return new StructuredBuilder9<>(scope, v1, v2, v3, v4, v5, v6, v7, v8, v9);
+        }
+    }
+
+    static final class StructuredBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+        private final Supplier<? extends Validation<E, T8>> v8;
+        private final Supplier<? extends Validation<E, T9>> v9;
+
+        StructuredBuilder9(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8, Supplier<? extends Validation<E, T9>> v9) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function9<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+            return scope.<E>run(v1, v2, v3, v4, v5, v6, v7, v8, v9).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7], (T9) values[8]));
+        }
+
+        public <T10> StructuredBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combine(Supplier<? extends Validation<E, T10>> v10) {
+            return new StructuredBuilder10<>(scope, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+        }
+    }
+
+    static final class StructuredBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+        private final Supplier<? extends Validation<E, T8>> v8;
+        private final Supplier<? extends Validation<E, T9>> v9;
+        private final Supplier<? extends Validation<E, T10>> v10;
+
+        StructuredBuilder10(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8, Supplier<? extends Validation<E, T9>> v9, Supplier<? extends Validation<E, T10>> v10) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+            return scope.<E>run(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7], (T9) values[8], (T10) values[9]));
+        }
+
+        public <T11> StructuredBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> combine(Supplier<? extends Validation<E, T11>> v11) {
+            return new StructuredBuilder11<>(scope, v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+        }
+    }
+
+    static final class StructuredBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> {
+        private final StructuredValidation scope;
+        private final Supplier<? extends Validation<E, T1>> v1;
+        private final Supplier<? extends Validation<E, T2>> v2;
+        private final Supplier<? extends Validation<E, T3>> v3;
+        private final Supplier<? extends Validation<E, T4>> v4;
+        private final Supplier<? extends Validation<E, T5>> v5;
+        private final Supplier<? extends Validation<E, T6>> v6;
+        private final Supplier<? extends Validation<E, T7>> v7;
+        private final Supplier<? extends Validation<E, T8>> v8;
+        private final Supplier<? extends Validation<E, T9>> v9;
+        private final Supplier<? extends Validation<E, T10>> v10;
+        private final Supplier<? extends Validation<E, T11>> v11;
+
+        StructuredBuilder11(StructuredValidation scope, Supplier<? extends Validation<E, T1>> v1, Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8, Supplier<? extends Validation<E, T9>> v9, Supplier<? extends Validation<E, T10>> v10, Supplier<? extends Validation<E, T11>> v11) {
+            this.scope = scope;
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.v4 = v4;
+            this.v5 = v5;
+            this.v6 = v6;
+            this.v7 = v7;
+            this.v8 = v8;
+            this.v9 = v9;
+            this.v10 = v10;
+            this.v11 = v11;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Validation<E, R> apply(Function11<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+            return scope.<E>run(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11).map(values -> f.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7], (T9) values[8], (T10) values[9], (T11) values[10]));
+        }
+    }
+}
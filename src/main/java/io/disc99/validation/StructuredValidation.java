@@ -0,0 +1,459 @@
+package io.disc99.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+
+import static io.disc99.validation.StructuredBuilders.*;
+
+/**
+ * Runs blocking checks concurrently, one thread per check, and joins them into a plain {@link Validation}.
+ *
+ * Every call opens its own scope: all checks are started, and none of them outlives the call. When the call
+ * returns early, because a check failed in fail-fast mode, threw, or the caller was interrupted, the checks
+ * not yet started are cancelled, the running ones are interrupted, and the call waits for them to finish; a
+ * check that ignores interrupts therefore delays the return. On Java 21 and later the checks run on virtual
+ * threads; on Java 8 they run on a shared, bounded pool of daemon threads.
+ */
+public final class StructuredValidation {
+
+    private static final StructuredValidation ACCUMULATING = new StructuredValidation(false);
+    private static final StructuredValidation FAIL_FAST = new StructuredValidation(true);
+
+    private final boolean failFast;
+
+    private StructuredValidation(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * Runs every check and accumulates all violations in argument order.
+     *
+     * @return an instance of StructuredValidation
+     */
+    public static StructuredValidation accumulating() {
+        return ACCUMULATING;
+    }
+
+    /**
+     * Stops at the first violation to complete and cancels the checks still running.
+     *
+     * @return an instance of StructuredValidation
+     */
+    public static StructuredValidation failFast() {
+        return FAIL_FAST;
+    }
+
+    /**
+     * Runs all {@code checks} concurrently and collects their values in input order.
+     *
+     * @param <E>    type of the violations
+     * @param <T>    type of the values
+     * @param checks suppliers of validations
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if checks is null
+     * @throws CompletionException  if a check throws
+     */
+    public <E, T> Validation<E, List<T>> all(Collection<? extends Supplier<? extends Validation<E, ? extends T>>> checks) {
+        Objects.requireNonNull(checks, "checks is null");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Supplier<? extends Validation<E, ?>>[] suppliers = checks.toArray(new Supplier[0]);
+        return run(suppliers).map(values -> {
+            @SuppressWarnings("unchecked")
+            List<T> list = (List<T>) Arrays.asList(values);
+            return Collections.unmodifiableList(list);
+        });
+    }
+
+    /**
+     * Combines 2 supplied {@code Validation}s into a {@link StructuredBuilder2 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @return an instance of StructuredBuilder2&lt;E,T1,T2&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2> StructuredBuilder2<E, T1, T2> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        return new StructuredBuilder2<>(this, validation1, validation2);
+    }
+
+    /**
+     * Combines 3 supplied {@code Validation}s into a {@link StructuredBuilder3 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @return an instance of StructuredBuilder3&lt;E,T1,T2,T3&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3> StructuredBuilder3<E, T1, T2, T3> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        return new StructuredBuilder3<>(this, validation1, validation2, validation3);
+    }
+
+    /**
+     * Combines 4 supplied {@code Validation}s into a {@link StructuredBuilder4 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @return an instance of StructuredBuilder4&lt;E,T1,T2,T3,T4&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4> StructuredBuilder4<E, T1, T2, T3, T4> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        return new StructuredBuilder4<>(this, validation1, validation2, validation3, validation4);
+    }
+
+    /**
+     * Combines 5 supplied {@code Validation}s into a {@link StructuredBuilder5 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @return an instance of StructuredBuilder5&lt;E,T1,T2,T3,T4,T5&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5> StructuredBuilder5<E, T1, T2, T3, T4, T5> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        return new StructuredBuilder5<>(this, validation1, validation2, validation3, validation4, validation5);
+    }
+
+    /**
+     * Combines 6 supplied {@code Validation}s into a {@link StructuredBuilder6 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @return an instance of StructuredBuilder6&lt;E,T1,T2,T3,T4,T5,T6&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6> StructuredBuilder6<E, T1, T2, T3, T4, T5, T6> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        return new StructuredBuilder6<>(this, validation1, validation2, validation3, validation4, validation5, validation6);
+    }
+
+    /**
+     * Combines 7 supplied {@code Validation}s into a {@link StructuredBuilder7 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @return an instance of StructuredBuilder7&lt;E,T1,T2,T3,T4,T5,T6,T7&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7> StructuredBuilder7<E, T1, T2, T3, T4, T5, T6, T7> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        return new StructuredBuilder7<>(this, validation1, validation2, validation3, validation4, validation5, validation6, validation7);
+    }
+
+    /**
+     * Combines 8 supplied {@code Validation}s into a {@link StructuredBuilder8 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @param validation8 supplier of 8 validation
+     * @return an instance of StructuredBuilder8&lt;E,T1,T2,T3,T4,T5,T6,T7,T8&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8> StructuredBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7, Supplier<? extends Validation<E, T8>> validation8) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        return new StructuredBuilder8<>(this, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
+    }
+
+    /**
+     * Combines 9 supplied {@code Validation}s into a {@link StructuredBuilder9 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @param validation8 supplier of 8 validation
+     * @param validation9 supplier of 9 validation
+     * @return an instance of StructuredBuilder9&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9> StructuredBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7, Supplier<? extends Validation<E, T8>> validation8, Supplier<? extends Validation<E, T9>> validation9) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        return new StructuredBuilder9<>(this, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
+    }
+
+    /**
+     * Combines 10 supplied {@code Validation}s into a {@link StructuredBuilder10 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @param validation8 supplier of 8 validation
+     * @param validation9 supplier of 9 validation
+     * @param validation10 supplier of 10 validation
+     * @return an instance of StructuredBuilder10&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> StructuredBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7, Supplier<? extends Validation<E, T8>> validation8, Supplier<? extends Validation<E, T9>> validation9, Supplier<? extends Validation<E, T10>> validation10) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        return new StructuredBuilder10<>(this, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
+    }
+
+    /**
+     * Combines 11 supplied {@code Validation}s into a {@link StructuredBuilder11 }, which runs them concurrently.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @param validation8 supplier of 8 validation
+     * @param validation9 supplier of 9 validation
+     * @param validation10 supplier of 10 validation
+     * @param validation11 supplier of 11 validation
+     * @return an instance of StructuredBuilder11&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> StructuredBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> combine(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7, Supplier<? extends Validation<E, T8>> validation8, Supplier<? extends Validation<E, T9>> validation9, Supplier<? extends Validation<E, T10>> validation10, Supplier<? extends Validation<E, T11>> validation11) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        return new StructuredBuilder11<>(this, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
+    }
+
+    @SafeVarargs
+    final <E> Validation<E, Object[]> run(Supplier<? extends Validation<E, ?>>... checks) {
+        int size = checks.length;
+        Object[] values = new Object[size];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Validation<E, ?>[] results = new Validation[size];
+        List<Future<Integer>> futures = new ArrayList<>(size);
+        // A check is claimed either by its task when it starts, or by this call when it is cancelled before
+        // starting; whoever claims it counts it down once it can no longer run.
+        AtomicIntegerArray claimed = new AtomicIntegerArray(size);
+        CountDownLatch finished = new CountDownLatch(size);
+        try {
+            ExecutorCompletionService<Integer> completion = new ExecutorCompletionService<>(Scopes.executor());
+            for (int i = 0; i < size; i++) {
+                int index = i;
+                Supplier<? extends Validation<E, ?>> check = checks[i];
+                futures.add(completion.submit(() -> {
+                    if (!claimed.compareAndSet(index, 0, 1)) {
+                        return index;
+                    }
+                    try {
+                        results[index] = Objects.requireNonNull(check.get(), "check returned null");
+                        return index;
+                    } finally {
+                        finished.countDown();
+                    }
+                }));
+            }
+            for (int i = 0; i < size; i++) {
+                int index = completion.take().get();
+                if (failFast && results[index].isInvalid()) {
+                    return Violations.of(results[index]).toInvalid();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted while waiting for checks");
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } finally {
+            for (Future<Integer> future : futures) {
+                future.cancel(true);
+            }
+            for (int i = 0; i < size; i++) {
+                if (claimed.compareAndSet(i, 0, 1)) {
+                    finished.countDown();
+                }
+            }
+            awaitUninterruptibly(finished);
+        }
+        Violations<E> violations = null;
+        for (int i = 0; i < size; i++) {
+            if (results[i].isValid()) {
+                values[i] = results[i].get();
+            } else {
+                violations = Violations.append(violations, results[i]);
+            }
+        }
+        return violations == null ? Validation.valid(values) : violations.toInvalid();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.disc99.validation;
+
+/**
+ * Clones a {@link StraightLines} template class for a schema.
+ *
+ * This is the Java 8 version, which cannot define classes at run time without a bytecode library: it clones
+ * nothing, and callers instantiate the template class shared by all schemas of the same arity. The
+ * multi-release JAR replaces it on Java 21 and later with one that gives every schema a hidden copy of the
+ * template (see {@code src/main/java21}).
+ */
+final class TemplateCloner {
+
+    private TemplateCloner() {
+    }
+
+    /**
+     * @return {@code null}: cloning is not supported on this runtime
+     */
+    static <A, E, R> CompiledValidator<A, E, R> cloneOf(Class<?> template, Class<?>[] parameterTypes, Object... arguments) {
+        return null;
+    }
+}
@@ -0,0 +1,157 @@
+package io.disc99.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Bulk validation of collections and streams, sequentially or split over the common fork-join pool.
+ */
+final class Traversals {
+
+    /**
+     * Smallest chunk validated by a single fork-join task.
+     */
+    static final int MIN_CHUNK = 256;
+
+    private Traversals() {
+    }
+
+    static <E, A, B> Validation<E, List<B>> traverse(Collection<? extends A> values, Function<? super A, ? extends Validation<E, ? extends B>> mapper, ViolationPolicy policy) {
+        int limit = policy.maxViolations();
+        List<B> results = new ArrayList<>(values.size());
+        Violations<E> violations = null;
+        for (A value : values) {
+            Validation<E, ? extends B> validation = mapper.apply(value);
+            if (validation.isValid()) {
+                if (violations == null) {
+                    results.add(validation.get());
+                }
+            } else {
+                violations = Violations.append(violations, validation, limit);
+            }
+        }
+        return violations == null ? Validation.valid(Collections.unmodifiableList(results)) : violations.toInvalid();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E, A, B> Validation<E, List<B>> traverseParallel(Collection<? extends A> values, Function<? super A, ? extends Validation<E, ? extends B>> mapper, ViolationPolicy policy) {
+        Object[] inputs = values.toArray();
+        Object[] results = new Object[inputs.length];
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        int chunk = Math.max(MIN_CHUNK, inputs.length / (parallelism * 4));
+        Violations<E> violations = ForkJoinPool.commonPool()
+                .invoke(new Task<>(inputs, results, (Function<Object, ? extends Validation<E, ?>>) mapper, 0, inputs.length, chunk, policy.maxViolations()));
+        return violations == null
+                ? Validation.valid(Collections.unmodifiableList((List<B>) Arrays.asList(results)))
+                : violations.toInvalid();
+    }
+
+    /**
+     * Validates {@code inputs[from, to)} into {@code results}, returning the violations in input order,
+     * or {@code null} if every element is valid.
+     */
+    private static final class Task<E> extends RecursiveTask<Violations<E>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] inputs;
+        private final Object[] results;
+        private final Function<Object, ? extends Validation<E, ?>> mapper;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final int limit;
+
+        Task(Object[] inputs, Object[] results, Function<Object, ? extends Validation<E, ?>> mapper, int from, int to, int chunk, int limit) {
+            this.inputs = inputs;
+            this.results = results;
+            this.mapper = mapper;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.limit = limit;
+        }
+
+        @Override
+        protected Violations<E> compute() {
+            if (to - from <= chunk) {
+                Violations<E> violations = null;
+                for (int i = from; i < to; i++) {
+                    Validation<E, ?> validation = mapper.apply(inputs[i]);
+                    if (validation.isValid()) {
+                        results[i] = validation.get();
+                    } else {
+                        violations = Violations.append(violations, validation, limit);
+                    }
+                }
+                return violations;
+            }
+            int middle = (from + to) >>> 1;
+            Task<E> left = new Task<>(inputs, results, mapper, from, middle, chunk, limit);
+            Task<E> right = new Task<>(inputs, results, mapper, middle, to, chunk, limit);
+            right.fork();
+            Violations<E> leftViolations = left.compute();
+            Violations<E> rightViolations = right.join();
+            if (leftViolations == null) {
+                return rightViolations;
+            }
+            return rightViolations == null ? leftViolations : leftViolations.append(rightViolations, limit);
+        }
+    }
+
+    static <E, T, A, R> Collector<Validation<E, T>, ?, Validation<E, R>> toValidation(Collector<? super T, A, R> downstream, ViolationPolicy policy) {
+        int limit = policy.maxViolations();
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, R> finisher = downstream.finisher();
+        return Collector.<Validation<E, T>, Container<E, A>, Validation<E, R>>of(
+                () -> new Container<>(supplier.get()),
+                (container, validation) -> {
+                    if (validation.isValid()) {
+                        if (container.violations == null) {
+                            accumulator.accept(container.values, validation.get());
+                        }
+                    } else {
+                        container.violations = Violations.append(container.violations, validation, limit);
+                        container.values = null;
+                    }
+                },
+                (left, right) -> {
+                    if (left.violations == null && right.violations == null) {
+                        left.values = combiner.apply(left.values, right.values);
+                    } else {
+                        left.violations = left.violations == null ? right.violations
+                                : right.violations == null ? left.violations : left.violations.append(right.violations, limit);
+                        left.values = null;
+                    }
+                    return left;
+                },
+                container -> container.violations == null
+                        ? Validation.valid(finisher.apply(container.values))
+                        : container.violations.toInvalid());
+    }
+
+    /**
+     * Mutable reduction state of {@link #toValidation(Collector, ViolationPolicy)}. Valid values are only retained
+     * until the first violation arrives.
+     */
+    private static final class Container<E, A> {
+        A values;
+        Violations<E> violations;
+
+        Container(A values) {
+            this.values = values;
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package io.disc99.validation;
 
-public class Util {
-    public static boolean isNumeric(final CharSequence cs) {
+/**
+ * Character sequence helpers shared by the rules of {@link Validator}.
+ */
+final class Util {
+
+    private Util() {
+    }
+
+    static boolean isNumeric(final CharSequence cs) {
         if (isEmpty(cs)) {
             return false;
         }
@@ -14,7 +21,7 @@ public class Util {
         return true;
     }
 
-    public static boolean isEmpty(final CharSequence cs) {
+    static boolean isEmpty(final CharSequence cs) {
         return cs == null || cs.length() == 0;
     }
 }
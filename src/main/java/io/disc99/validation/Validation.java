@@ -6,16 +6,19 @@ import io.disc99.function.*;
 import java.io.Serializable;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import static java.util.function.Function.identity;
 import static io.disc99.validation.Builders.*;
+import static io.disc99.validation.FailFastBuilders.*;
 import static java.util.stream.Collectors.toList;
 
 public interface Validation<E, T> {
 
     /**
      * Creates a {@link Valid} that contains the given {@code value}.
+     * A shared instance is returned for {@code null}, booleans, cached small integers and {@code Optional.empty()}.
      *
      * @param <E>   type of the violation
      * @param <T>   type of the given {@code value}
@@ -23,11 +26,11 @@ public interface Validation<E, T> {
      * @return {@code Valid(value)}
      */
     static <E, T> Validation<E, T> valid(T value) {
-        return new Valid<>(value);
+        return Interned.valid(value);
     }
 
     /**
-     * Creates an {@link Invalid} that contains the given {@code violations}.
+     * Creates an {@link Invalid} that contains a copy of the given {@code violations}.
      *
      * @param <E>   type of the given {@code violations}
      * @param <T>   type of the value
@@ -36,8 +39,7 @@ public interface Validation<E, T> {
      * @throws NullPointerException if violations is null
      */
     static <E, T> Validation<E, T> invalid(List<E> violations) {
-        Objects.requireNonNull(violations, "violations is null");
-        return new Invalid<>(violations);
+        return Violations.of(violations).toInvalid();
     }
 
     /**
@@ -54,29 +56,311 @@ public interface Validation<E, T> {
         return invalid(Arrays.asList(violations));
     }
 
+    /**
+     * Gets a shared {@link Invalid} that contains the single, constant {@code violation}.
+     * Intended for fixed messages such as {@code "may not be null"}; do not pass per-call values.
+     *
+     * @param <E>       type of the given {@code violation}
+     * @param <T>       type of the value
+     * @param violation A constant violation
+     * @return {@code Invalid(violation)}
+     * @throws NullPointerException if violation is null
+     */
+    static <E, T> Validation<E, T> invalidConstant(E violation) {
+        Objects.requireNonNull(violation, "violation is null");
+        return Interned.invalid(violation);
+    }
+
+    /**
+     * Creates a {@link Lazy} that evaluates the given {@code supplier} on first access and memoizes its result.
+     * {@code map}, {@code flatMap}, {@code apply} and {@code mapViolations} on it stay lazy.
+     *
+     * @param <E>      type of the violation
+     * @param <T>      type of the value
+     * @param supplier A supplier of the Validation
+     * @return {@code Lazy(supplier)}
+     * @throws NullPointerException if supplier is null
+     */
+    @SuppressWarnings("unchecked")
+    static <E, T> Validation<E, T> lazy(Supplier<? extends Validation<E, ? extends T>> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new Lazy<>((Supplier<? extends Validation<E, T>>) supplier);
+    }
+
+    /**
+     * Nests the violations of {@code validation} under {@code path}, in O(1) whatever their number.
+     *
+     * <pre>{@code
+     * Validation<PathViolation, Order> order = Validation.at("order", combine(
+     *         Validation.at("id", PathViolation.lift(Rules.notEmpty(id))),
+     *         Validation.at("items", traverse(items, this::validateItem))
+     * ).apply(Order::new));
+     * }</pre>
+     *
+     * @param <T>        type of the value
+     * @param path       location of the validated value, relative to its parent
+     * @param validation validation of the value
+     * @return {@code validation} if it is valid, otherwise its violations under {@code path}
+     * @throws NullPointerException if path or validation is null
+     */
+    static <T> Validation<PathViolation, T> at(Path path, Validation<PathViolation, T> validation) {
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(validation, "validation is null");
+        return validation.isValid() ? validation : Violations.of(validation).under(path).toInvalid();
+    }
+
+    /**
+     * Nests the violations of {@code validation} under the field {@code field}.
+     *
+     * @param <T>        type of the value
+     * @param field      name of the validated field
+     * @param validation validation of the field
+     * @return {@code validation} if it is valid, otherwise its violations under {@code field}
+     * @throws NullPointerException if field or validation is null
+     */
+    static <T> Validation<PathViolation, T> at(String field, Validation<PathViolation, T> validation) {
+        return at(Path.of(field), validation);
+    }
+
+    /**
+     * Nests the violations of {@code validation} under the collection element {@code index}.
+     *
+     * @param <T>        type of the value
+     * @param index      index of the validated element
+     * @param validation validation of the element
+     * @return {@code validation} if it is valid, otherwise its violations under {@code [index]}
+     * @throws NullPointerException     if validation is null
+     * @throws IllegalArgumentException if index is negative
+     */
+    static <T> Validation<PathViolation, T> at(int index, Validation<PathViolation, T> validation) {
+        return at(Path.ROOT.index(index), validation);
+    }
+
     static <E, T1, T2, U> Validation<E, U> zip(Validation<E, T1> validation1, Validation<E, T2> validation2, BiFunction<T1, T2, Validation<E, U>> zipper) {
         return combine(validation1, validation2).apply(zipper).flatMap(identity());
     }
 
+    /**
+     * Reduces many {@code Validation}s into a single {@code Validation} by collecting the valid values,
+     * or all violations in input order if any of them is invalid.
+     *
+     * @param <E>         type of the violations
+     * @param <T>         type of the values
+     * @param validations a collection of validations
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if validations is null
+     */
+    static <E, T> Validation<E, List<T>> sequence(Collection<? extends Validation<E, ? extends T>> validations) {
+        return sequence(validations, ViolationPolicy.defaults());
+    }
+
+    /**
+     * Same as {@link #sequence(Collection)}, keeping the violations allowed by {@code policy}.
+     *
+     * @param <E>         type of the violations
+     * @param <T>         type of the values
+     * @param validations a collection of validations
+     * @param policy      bounds the number of violations kept
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if validations or policy is null
+     */
+    static <E, T> Validation<E, List<T>> sequence(Collection<? extends Validation<E, ? extends T>> validations, ViolationPolicy policy) {
+        Objects.requireNonNull(validations, "validations is null");
+        Objects.requireNonNull(policy, "policy is null");
+        return Traversals.traverse(validations, identity(), policy);
+    }
+
+    /**
+     * Same as {@link #sequence(Collection)}, but splits the collection over the common fork-join pool.
+     * Violations are still reported in input order.
+     *
+     * @param <E>         type of the violations
+     * @param <T>         type of the values
+     * @param validations a collection of validations
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if validations is null
+     */
+    static <E, T> Validation<E, List<T>> sequenceParallel(Collection<? extends Validation<E, ? extends T>> validations) {
+        return sequenceParallel(validations, ViolationPolicy.defaults());
+    }
+
+    /**
+     * Same as {@link #sequenceParallel(Collection)}, keeping the violations allowed by {@code policy}.
+     *
+     * @param <E>         type of the violations
+     * @param <T>         type of the values
+     * @param validations a collection of validations
+     * @param policy      bounds the number of violations kept
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if validations or policy is null
+     */
+    static <E, T> Validation<E, List<T>> sequenceParallel(Collection<? extends Validation<E, ? extends T>> validations, ViolationPolicy policy) {
+        Objects.requireNonNull(validations, "validations is null");
+        Objects.requireNonNull(policy, "policy is null");
+        return Traversals.traverseParallel(validations, identity(), policy);
+    }
+
+    /**
+     * Validates every value with {@code mapper} and collects the valid results,
+     * or all violations in input order if any of them is invalid.
+     *
+     * @param <E>    type of the violations
+     * @param <A>    type of the input values
+     * @param <B>    type of the validated values
+     * @param values a collection of values
+     * @param mapper a function that validates a single value
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if values or mapper is null
+     */
+    static <E, A, B> Validation<E, List<B>> traverse(Collection<? extends A> values, Function<? super A, ? extends Validation<E, ? extends B>> mapper) {
+        return traverse(values, mapper, ViolationPolicy.defaults());
+    }
+
+    /**
+     * Same as {@link #traverse(Collection, Function)}, keeping the violations allowed by {@code policy}.
+     *
+     * @param <E>    type of the violations
+     * @param <A>    type of the input values
+     * @param <B>    type of the validated values
+     * @param values a collection of values
+     * @param mapper a function that validates a single value
+     * @param policy bounds the number of violations kept
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if values, mapper or policy is null
+     */
+    static <E, A, B> Validation<E, List<B>> traverse(Collection<? extends A> values, Function<? super A, ? extends Validation<E, ? extends B>> mapper, ViolationPolicy policy) {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        Objects.requireNonNull(policy, "policy is null");
+        return Traversals.traverse(values, mapper, policy);
+    }
+
+    /**
+     * Same as {@link #traverse(Collection, Function)}, but validates chunks of the collection concurrently
+     * on the common fork-join pool. {@code mapper} must be thread-safe. Violations are still reported in input order.
+     *
+     * @param <E>    type of the violations
+     * @param <A>    type of the input values
+     * @param <B>    type of the validated values
+     * @param values a collection of values
+     * @param mapper a function that validates a single value
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if values or mapper is null
+     */
+    static <E, A, B> Validation<E, List<B>> traverseParallel(Collection<? extends A> values, Function<? super A, ? extends Validation<E, ? extends B>> mapper) {
+        return traverseParallel(values, mapper, ViolationPolicy.defaults());
+    }
+
+    /**
+     * Same as {@link #traverseParallel(Collection, Function)}, keeping the violations allowed by {@code policy}.
+     *
+     * @param <E>    type of the violations
+     * @param <A>    type of the input values
+     * @param <B>    type of the validated values
+     * @param values a collection of values
+     * @param mapper a function that validates a single value
+     * @param policy bounds the number of violations kept
+     * @return {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if values, mapper or policy is null
+     */
+    static <E, A, B> Validation<E, List<B>> traverseParallel(Collection<? extends A> values, Function<? super A, ? extends Validation<E, ? extends B>> mapper, ViolationPolicy policy) {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        Objects.requireNonNull(policy, "policy is null");
+        return Traversals.traverseParallel(values, mapper, policy);
+    }
+
+    /**
+     * Returns a {@code Collector} that folds a stream of {@code Validation}s into the list of valid values,
+     * or all violations in encounter order. Once a violation arrives, valid values are no longer retained.
+     *
+     * @param <E> type of the violations
+     * @param <T> type of the values
+     * @return a {@code Collector} producing {@code Valid(values)} or {@code Invalid(violations)}
+     */
+    static <E, T> Collector<Validation<E, T>, ?, Validation<E, List<T>>> toValidation() {
+        return Traversals.toValidation(toList(), ViolationPolicy.defaults());
+    }
+
+    /**
+     * Same as {@link #toValidation()}, keeping the violations allowed by {@code policy}.
+     *
+     * @param <E>    type of the violations
+     * @param <T>    type of the values
+     * @param policy bounds the number of violations kept
+     * @return a {@code Collector} producing {@code Valid(values)} or {@code Invalid(violations)}
+     * @throws NullPointerException if policy is null
+     */
+    static <E, T> Collector<Validation<E, T>, ?, Validation<E, List<T>>> toValidation(ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return Traversals.toValidation(toList(), policy);
+    }
+
+    /**
+     * Returns a {@code Collector} that reduces the valid values of a stream of {@code Validation}s with
+     * {@code downstream}, or collects all violations in encounter order. Once a violation arrives,
+     * valid values are no longer passed to {@code downstream}.
+     *
+     * @param <E>        type of the violations
+     * @param <T>        type of the values
+     * @param <A>        intermediate accumulation type of the downstream collector
+     * @param <R>        result type of the downstream collector
+     * @param downstream a collector for the valid values
+     * @return a {@code Collector} producing {@code Valid(result)} or {@code Invalid(violations)}
+     * @throws NullPointerException if downstream is null
+     */
+    static <E, T, A, R> Collector<Validation<E, T>, ?, Validation<E, R>> toValidation(Collector<? super T, A, R> downstream) {
+        return toValidation(downstream, ViolationPolicy.defaults());
+    }
+
+    /**
+     * Same as {@link #toValidation(Collector)}, keeping the violations allowed by {@code policy}.
+     *
+     * @param <E>        type of the violations
+     * @param <T>        type of the values
+     * @param <A>        intermediate accumulation type of the downstream collector
+     * @param <R>        result type of the downstream collector
+     * @param downstream a collector for the valid values
+     * @param policy     bounds the number of violations kept
+     * @return a {@code Collector} producing {@code Valid(result)} or {@code Invalid(violations)}
+     * @throws NullPointerException if downstream or policy is null
+     */
+    static <E, T, A, R> Collector<Validation<E, T>, ?, Validation<E, R>> toValidation(Collector<? super T, A, R> downstream, ViolationPolicy policy) {
+        Objects.requireNonNull(downstream, "downstream is null");
+        Objects.requireNonNull(policy, "policy is null");
+        return Traversals.toValidation(downstream, policy);
+    }
+
     default <U> Validation<E, U> apply(Validation<E, ? extends Function<? super T, ? extends U>> validation) {
+        return apply(validation, ViolationPolicy.defaults());
+    }
+
+    /**
+     * Same as {@link #apply(Validation)}, keeping at most as many violations as {@code policy} allows.
+     *
+     * @param <U>        type of the result
+     * @param validation a validation of the function to apply
+     * @param policy     the policy bounding the violations kept
+     * @return the result of the function if both are valid, otherwise the violations of both
+     * @throws NullPointerException if validation or policy is null
+     */
+    default <U> Validation<E, U> apply(Validation<E, ? extends Function<? super T, ? extends U>> validation, ViolationPolicy policy) {
         Objects.requireNonNull(validation, "validation is null");
+        Objects.requireNonNull(policy, "policy is null");
+        int limit = policy.maxViolations();
         if (isValid()) {
             if (validation.isValid()) {
                 Function<? super T, ? extends U> f = validation.get();
                 U u = f.apply(this.get());
                 return valid(u);
             } else {
-                return invalid(validation.getViolations());
+                return Violations.of(validation).take(limit).toInvalid();
             }
         } else {
             if (validation.isValid()) {
-                List<E> violations = new ArrayList<>(this.getViolations());
-                return invalid(violations);
+                return Violations.of(this).take(limit).toInvalid();
             } else {
-                List<E> violations = validation.getViolations();
-                List<E> violation = this.getViolations();
-                violations.addAll(violation);
-                return invalid(violations);
+                return Violations.of(validation).take(limit).append(Violations.of(this), limit).toInvalid();
             }
         }
     }
@@ -113,7 +397,7 @@ public interface Validation<E, T> {
     default <U> Validation<E, U> map(Function<? super T, ? extends U> mapper) {
         Objects.requireNonNull(mapper, "mapper is null");
         if (isInvalid()) {
-            return invalid(this.getViolations());
+            return Violations.of(this).toInvalid();
         } else {
             T value = this.get();
             return valid(mapper.apply(value));
@@ -140,7 +424,7 @@ public interface Validation<E, T> {
         if (isValid()) {
             return (Validation<U, T>) this;
         } else {
-            return invalid(getViolations().stream().flatMap(e -> f.apply(e).stream()).collect(toList()));
+            return Violations.owned(getViolations().stream().<U>flatMap(e -> f.apply(e).stream()).collect(toList())).toInvalid();
         }
     }
 
@@ -211,11 +495,20 @@ public interface Validation<E, T> {
     /**
      * Gets the violation of this Validation if is an Invalid or throws if this is a Valid
      *
-     * @return The violation of this Invalid
+     * @return The violation of this Invalid, as an unmodifiable list
      * @throws RuntimeException if this is a Valid
      */
     List<E> getViolations();
 
+    /**
+     * Gets the number of violations of this Validation, including those dropped by {@link ViolationPolicy}.
+     *
+     * @return the number of violations, or 0 if this is a Valid
+     */
+    default long getViolationCount() {
+        return isValid() ? 0 : Violations.of(this).count();
+    }
+
     /**
      * Applies a function mapper to the violation of this Validation if this is an Invalid. Otherwise does nothing
      * if this is a Valid.
@@ -229,7 +522,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(mapper, "mapper is null");
         if (isInvalid()) {
             List<E> violation = this.getViolations();
-            return invalid(mapper.apply(violation));
+            return Violations.of(this).withList(mapper.apply(violation)).toInvalid();
         } else {
             return valid(this.get());
         }
@@ -252,7 +545,7 @@ public interface Validation<E, T> {
          *
          * @param value The value of this success
          */
-        private Valid(T value) {
+        Valid(T value) {
             this.value = value;
         }
 
@@ -303,15 +596,15 @@ public interface Validation<E, T> {
 
         private static final long serialVersionUID = 1L;
 
-        private final List<E> violation;
+        private final Violations<E> violations;
 
         /**
          * Construct an {@code Invalid}
          *
          * @param violations The value of this violations
          */
-        private Invalid(List<E> violations) {
-            this.violation = violations;
+        Invalid(Violations<E> violations) {
+            this.violations = violations;
         }
 
         @Override
@@ -331,22 +624,145 @@ public interface Validation<E, T> {
 
         @Override
         public List<E> getViolations() {
-            return violation;
+            return violations.toList();
+        }
+
+        Violations<E> violations() {
+            return violations;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj == this) || (obj instanceof Invalid && Objects.equals(getViolations(), ((Invalid<?, ?>) obj).getViolations()));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getViolations());
+        }
+
+        @Override
+        public String toString() {
+            return "Invalid(" + getViolations() + ")";
+        }
+    }
+
+    /**
+     * A Validation that is computed on first access and then memoized.
+     *
+     * @param <E> type of the violation of this Validation
+     * @param <T> type of the value of this Validation
+     */
+    final class Lazy<E, T> implements Validation<E, T>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient Supplier<? extends Validation<E, T>> supplier;
+
+        private volatile Validation<E, T> value;
+
+        /**
+         * Construct a {@code Lazy}
+         *
+         * @param supplier The supplier of the underlying Validation
+         */
+        private Lazy(Supplier<? extends Validation<E, T>> supplier) {
+            this.supplier = supplier;
+        }
+
+        /**
+         * Evaluates the underlying Validation once; later calls return the memoized result.
+         *
+         * @return the underlying Validation
+         */
+        public Validation<E, T> force() {
+            Validation<E, T> result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = Objects.requireNonNull(supplier.get(), "supplier returned null");
+                        value = result;
+                        supplier = null;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Check whether the underlying Validation has been evaluated
+         *
+         * @return true if is evaluated, false otherwise
+         */
+        public boolean isEvaluated() {
+            return value != null;
+        }
+
+        @Override
+        public boolean isValid() {
+            return force().isValid();
+        }
+
+        @Override
+        public boolean isInvalid() {
+            return force().isInvalid();
+        }
+
+        @Override
+        public T get() {
+            return force().get();
+        }
+
+        @Override
+        public List<E> getViolations() {
+            return force().getViolations();
+        }
+
+        @Override
+        public <U> Validation<E, U> apply(Validation<E, ? extends Function<? super T, ? extends U>> validation, ViolationPolicy policy) {
+            Objects.requireNonNull(validation, "validation is null");
+            Objects.requireNonNull(policy, "policy is null");
+            return lazy(() -> force().apply(validation, policy));
+        }
+
+        @Override
+        public <U> Validation<E, U> map(Function<? super T, ? extends U> mapper) {
+            Objects.requireNonNull(mapper, "mapper is null");
+            return lazy(() -> force().map(mapper));
+        }
+
+        @Override
+        public <U> Validation<E, U> flatMap(Function<? super T, ? extends Validation<E, ? extends U>> mapper) {
+            Objects.requireNonNull(mapper, "mapper is null");
+            return lazy(() -> force().flatMap(mapper));
+        }
+
+        @Override
+        public <U> Validation<U, T> mapViolations(Function<List<E>, List<U>> mapper) {
+            Objects.requireNonNull(mapper, "mapper is null");
+            return lazy(() -> force().mapViolations(mapper));
         }
 
         @Override
         public boolean equals(Object obj) {
-            return (obj == this) || (obj instanceof Invalid && Objects.equals(violation, ((Invalid<?, ?>) obj).violation));
+            return (obj == this) || (obj instanceof Lazy && force().equals(((Lazy<?, ?>) obj).force()));
         }
 
         @Override
         public int hashCode() {
-            return Objects.hashCode(violation);
+            return force().hashCode();
         }
 
         @Override
         public String toString() {
-            return "Invalid(" + violation + ")";
+            Validation<E, T> result = value;
+            return "Lazy(" + (result == null ? "?" : result) + ")";
+        }
+
+        private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+            force();
+            s.defaultWriteObject();
         }
     }
 
@@ -357,45 +773,192 @@ public interface Validation<E, T> {
     }
 
     default <R, T2> Validation<E, R> accumulate(Validation<E, T2> v2, BiFunction<T, T2, R> f) {
-        return v2.apply(this.apply(valid(
-                t1 -> t2 -> f.apply(t1, t2)
-        )));
+        return evaluate(Violations.defaultLimit(), this, v2, f);
+    }
+
+    default <R, T2> Validation<E, R> accumulate(Validation<E, T2> v2, BiFunction<T, T2, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, f);
     }
 
     default <R, T2, T3> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Function3<T, T2, T3, R> f) {
-        return v3.apply(v2.apply(this.apply(valid(
-                t1 -> t2 -> t3 -> f.apply(t1, t2, t3)
-        ))));
+        return evaluate(Violations.defaultLimit(), this, v2, v3, f);
+    }
+
+    default <R, T2, T3> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Function3<T, T2, T3, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, f);
     }
 
     default <R, T2, T3, T4> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Function4<T, T2, T3, T4, R> f) {
-        // TODO
-        return null;
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, f);
+    }
+
+    default <R, T2, T3, T4> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Function4<T, T2, T3, T4, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, f);
     }
 
     default <R, T2, T3, T4, T5> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Function5<T, T2, T3, T4, T5, R> f) {
-        // TODO
-        return null;
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, f);
+    }
+
+    default <R, T2, T3, T4, T5> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Function5<T, T2, T3, T4, T5, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, f);
     }
 
     default <R, T2, T3, T4, T5, T6> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Function6<T, T2, T3, T4, T5, T6, R> f) {
-        // TODO
-        return null;
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Function6<T, T2, T3, T4, T5, T6, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, f);
     }
 
     default <R, T2, T3, T4, T5, T6, T7> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Function7<T, T2, T3, T4, T5, T6, T7, R> f) {
-        // TODO
-        return null;
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Function7<T, T2, T3, T4, T5, T6, T7, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, f);
     }
 
     default <R, T2, T3, T4, T5, T6, T7, T8> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Function8<T, T2, T3, T4, T5, T6, T7, T8, R> f) {
-        // TODO
-        return null;
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Function8<T, T2, T3, T4, T5, T6, T7, T8, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, f);
     }
 
     default <R, T2, T3, T4, T5, T6, T7, T8, T9> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Function9<T, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
-        // TODO
-        return null;
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Function9<T, T2, T3, T4, T5, T6, T7, T8, T9, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Function10<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Function10<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Function11<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Function11<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Function12<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Function12<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Function13<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Function13<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Function14<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Function14<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Function15<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Function15<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Function16<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Function16<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Function17<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Function17<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Function18<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Function18<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Function19<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Function19<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Function20<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Function20<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Function21<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Function21<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Validation<E, T22> v22, Function22<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, R> f) {
+        return evaluate(Violations.defaultLimit(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> Validation<E, R> accumulate(Validation<E, T2> v2, Validation<E, T3> v3, Validation<E, T4> v4, Validation<E, T5> v5, Validation<E, T6> v6, Validation<E, T7> v7, Validation<E, T8> v8, Validation<E, T9> v9, Validation<E, T10> v10, Validation<E, T11> v11, Validation<E, T12> v12, Validation<E, T13> v13, Validation<E, T14> v14, Validation<E, T15> v15, Validation<E, T16> v16, Validation<E, T17> v17, Validation<E, T18> v18, Validation<E, T19> v19, Validation<E, T20> v20, Validation<E, T21> v21, Validation<E, T22> v22, Function22<T, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22, R> f, ViolationPolicy policy) {
+        Objects.requireNonNull(policy, "policy is null");
+        return evaluate(policy.maxViolations(), this, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20, v21, v22, f);
     }
 
     /**
@@ -407,7 +970,7 @@ public interface Validation<E, T> {
      * @return an instance of Builder2
      */
     default <U> Builder2<E, T, U> combine(Validation<E, U> validation) {
-        return new Builder2<>(this, validation);
+        return new Builder2<>(Violations.defaultLimit(), this, validation);
     }
 
     /**
@@ -424,7 +987,7 @@ public interface Validation<E, T> {
     static <E, T1, T2> Builder2<E, T1, T2> combine(Validation<E, T1> validation1, Validation<E, T2> validation2) {
         Objects.requireNonNull(validation1, "validation1 is null");
         Objects.requireNonNull(validation2, "validation2 is null");
-        return new Builder2<>(validation1, validation2);
+        return new Builder2<>(Violations.defaultLimit(), validation1, validation2);
     }
 
     /**
@@ -444,7 +1007,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation1, "validation1 is null");
         Objects.requireNonNull(validation2, "validation2 is null");
         Objects.requireNonNull(validation3, "validation3 is null");
-        return new Builder3<>(validation1, validation2, validation3);
+        return new Builder3<>(Violations.defaultLimit(), validation1, validation2, validation3);
     }
 
     /**
@@ -467,7 +1030,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation2, "validation2 is null");
         Objects.requireNonNull(validation3, "validation3 is null");
         Objects.requireNonNull(validation4, "validation4 is null");
-        return new Builder4<>(validation1, validation2, validation3, validation4);
+        return new Builder4<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4);
     }
 
     /**
@@ -493,7 +1056,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation3, "validation3 is null");
         Objects.requireNonNull(validation4, "validation4 is null");
         Objects.requireNonNull(validation5, "validation5 is null");
-        return new Builder5<>(validation1, validation2, validation3, validation4, validation5);
+        return new Builder5<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5);
     }
 
     /**
@@ -522,7 +1085,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation4, "validation4 is null");
         Objects.requireNonNull(validation5, "validation5 is null");
         Objects.requireNonNull(validation6, "validation6 is null");
-        return new Builder6<>(validation1, validation2, validation3, validation4, validation5, validation6);
+        return new Builder6<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6);
     }
 
     /**
@@ -554,7 +1117,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation5, "validation5 is null");
         Objects.requireNonNull(validation6, "validation6 is null");
         Objects.requireNonNull(validation7, "validation7 is null");
-        return new Builder7<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7);
+        return new Builder7<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7);
     }
 
     /**
@@ -589,7 +1152,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation6, "validation6 is null");
         Objects.requireNonNull(validation7, "validation7 is null");
         Objects.requireNonNull(validation8, "validation8 is null");
-        return new Builder8<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
+        return new Builder8<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
     }
 
     /**
@@ -627,7 +1190,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation7, "validation7 is null");
         Objects.requireNonNull(validation8, "validation8 is null");
         Objects.requireNonNull(validation9, "validation9 is null");
-        return new Builder9<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
+        return new Builder9<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
     }
 
     /**
@@ -668,7 +1231,7 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation8, "validation8 is null");
         Objects.requireNonNull(validation9, "validation9 is null");
         Objects.requireNonNull(validation10, "validation10 is null");
-        return new Builder10<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
+        return new Builder10<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
     }
 
     /**
@@ -712,688 +1275,1048 @@ public interface Validation<E, T> {
         Objects.requireNonNull(validation9, "validation9 is null");
         Objects.requireNonNull(validation10, "validation10 is null");
         Objects.requireNonNull(validation11, "validation11 is null");
-        return new Builder11<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
-    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder12 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @return an instance of Builder12&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> Builder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        return new Builder12<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder13 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @return an instance of Builder13&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> Builder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        return new Builder13<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder14 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @return an instance of Builder14&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> Builder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        return new Builder14<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder15 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param <T15>        type of 15 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @param validation15 15 validation
-//     * @return an instance of Builder15&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> Builder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        Objects.requireNonNull(validation15, "validation15 is null");
-//        return new Builder15<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder16 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param <T15>        type of 15 valid value
-//     * @param <T16>        type of 16 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @param validation15 15 validation
-//     * @param validation16 16 validation
-//     * @return an instance of Builder16&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> Builder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        Objects.requireNonNull(validation15, "validation15 is null");
-//        Objects.requireNonNull(validation16, "validation16 is null");
-//        return new Builder16<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder17 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param <T15>        type of 15 valid value
-//     * @param <T16>        type of 16 valid value
-//     * @param <T17>        type of 17 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @param validation15 15 validation
-//     * @param validation16 16 validation
-//     * @param validation17 17 validation
-//     * @return an instance of Builder17&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> Builder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        Objects.requireNonNull(validation15, "validation15 is null");
-//        Objects.requireNonNull(validation16, "validation16 is null");
-//        Objects.requireNonNull(validation17, "validation17 is null");
-//        return new Builder17<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder18 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param <T15>        type of 15 valid value
-//     * @param <T16>        type of 16 valid value
-//     * @param <T17>        type of 17 valid value
-//     * @param <T18>        type of 18 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @param validation15 15 validation
-//     * @param validation16 16 validation
-//     * @param validation17 17 validation
-//     * @param validation18 18 validation
-//     * @return an instance of Builder18&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> Builder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        Objects.requireNonNull(validation15, "validation15 is null");
-//        Objects.requireNonNull(validation16, "validation16 is null");
-//        Objects.requireNonNull(validation17, "validation17 is null");
-//        Objects.requireNonNull(validation18, "validation18 is null");
-//        return new Builder18<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder19 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param <T15>        type of 15 valid value
-//     * @param <T16>        type of 16 valid value
-//     * @param <T17>        type of 17 valid value
-//     * @param <T18>        type of 18 valid value
-//     * @param <T19>        type of 19 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @param validation15 15 validation
-//     * @param validation16 16 validation
-//     * @param validation17 17 validation
-//     * @param validation18 18 validation
-//     * @param validation19 19 validation
-//     * @return an instance of Builder19&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> Builder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        Objects.requireNonNull(validation15, "validation15 is null");
-//        Objects.requireNonNull(validation16, "validation16 is null");
-//        Objects.requireNonNull(validation17, "validation17 is null");
-//        Objects.requireNonNull(validation18, "validation18 is null");
-//        Objects.requireNonNull(validation19, "validation19 is null");
-//        return new Builder19<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder20 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param <T15>        type of 15 valid value
-//     * @param <T16>        type of 16 valid value
-//     * @param <T17>        type of 17 valid value
-//     * @param <T18>        type of 18 valid value
-//     * @param <T19>        type of 19 valid value
-//     * @param <T20>        type of 20 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @param validation15 15 validation
-//     * @param validation16 16 validation
-//     * @param validation17 17 validation
-//     * @param validation18 18 validation
-//     * @param validation19 19 validation
-//     * @param validation20 20 validation
-//     * @return an instance of Builder20&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> Builder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        Objects.requireNonNull(validation15, "validation15 is null");
-//        Objects.requireNonNull(validation16, "validation16 is null");
-//        Objects.requireNonNull(validation17, "validation17 is null");
-//        Objects.requireNonNull(validation18, "validation18 is null");
-//        Objects.requireNonNull(validation19, "validation19 is null");
-//        Objects.requireNonNull(validation20, "validation20 is null");
-//        return new Builder20<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder21 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param <T15>        type of 15 valid value
-//     * @param <T16>        type of 16 valid value
-//     * @param <T17>        type of 17 valid value
-//     * @param <T18>        type of 18 valid value
-//     * @param <T19>        type of 19 valid value
-//     * @param <T20>        type of 20 valid value
-//     * @param <T21>        type of 21 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @param validation15 15 validation
-//     * @param validation16 16 validation
-//     * @param validation17 17 validation
-//     * @param validation18 18 validation
-//     * @param validation19 19 validation
-//     * @param validation20 20 validation
-//     * @param validation21 21 validation
-//     * @return an instance of Builder21&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20,T21&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> Builder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20, Validation<E, T21> validation21) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        Objects.requireNonNull(validation15, "validation15 is null");
-//        Objects.requireNonNull(validation16, "validation16 is null");
-//        Objects.requireNonNull(validation17, "validation17 is null");
-//        Objects.requireNonNull(validation18, "validation18 is null");
-//        Objects.requireNonNull(validation19, "validation19 is null");
-//        Objects.requireNonNull(validation20, "validation20 is null");
-//        Objects.requireNonNull(validation21, "validation21 is null");
-//        return new Builder21<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21);
-//    }
-//
-//    /**
-//     * Combines three {@code Validation}s into a {@link Builder22 }.
-//     *
-//     * @param <E>         type of violation
-//     * @param <T1>        type of 1 valid value
-//     * @param <T2>        type of 2 valid value
-//     * @param <T3>        type of 3 valid value
-//     * @param <T4>        type of 4 valid value
-//     * @param <T5>        type of 5 valid value
-//     * @param <T6>        type of 6 valid value
-//     * @param <T7>        type of 7 valid value
-//     * @param <T8>        type of 8 valid value
-//     * @param <T9>        type of 9 valid value
-//     * @param <T10>        type of 10 valid value
-//     * @param <T11>        type of 11 valid value
-//     * @param <T12>        type of 12 valid value
-//     * @param <T13>        type of 13 valid value
-//     * @param <T14>        type of 14 valid value
-//     * @param <T15>        type of 15 valid value
-//     * @param <T16>        type of 16 valid value
-//     * @param <T17>        type of 17 valid value
-//     * @param <T18>        type of 18 valid value
-//     * @param <T19>        type of 19 valid value
-//     * @param <T20>        type of 20 valid value
-//     * @param <T21>        type of 21 valid value
-//     * @param <T22>        type of 22 valid value
-//     * @param validation1 1 validation
-//     * @param validation2 2 validation
-//     * @param validation3 3 validation
-//     * @param validation4 4 validation
-//     * @param validation5 5 validation
-//     * @param validation6 6 validation
-//     * @param validation7 7 validation
-//     * @param validation8 8 validation
-//     * @param validation9 9 validation
-//     * @param validation10 10 validation
-//     * @param validation11 11 validation
-//     * @param validation12 12 validation
-//     * @param validation13 13 validation
-//     * @param validation14 14 validation
-//     * @param validation15 15 validation
-//     * @param validation16 16 validation
-//     * @param validation17 17 validation
-//     * @param validation18 18 validation
-//     * @param validation19 19 validation
-//     * @param validation20 20 validation
-//     * @param validation21 21 validation
-//     * @param validation22 22 validation
-//     * @return an instance of Builder22&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20,T21,T22&gt;
-//     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21, validation22 is null
-//     */
-//    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> Builder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20, Validation<E, T21> validation21, Validation<E, T22> validation22) {
-//        Objects.requireNonNull(validation1, "validation1 is null");
-//        Objects.requireNonNull(validation2, "validation2 is null");
-//        Objects.requireNonNull(validation3, "validation3 is null");
-//        Objects.requireNonNull(validation4, "validation4 is null");
-//        Objects.requireNonNull(validation5, "validation5 is null");
-//        Objects.requireNonNull(validation6, "validation6 is null");
-//        Objects.requireNonNull(validation7, "validation7 is null");
-//        Objects.requireNonNull(validation8, "validation8 is null");
-//        Objects.requireNonNull(validation9, "validation9 is null");
-//        Objects.requireNonNull(validation10, "validation10 is null");
-//        Objects.requireNonNull(validation11, "validation11 is null");
-//        Objects.requireNonNull(validation12, "validation12 is null");
-//        Objects.requireNonNull(validation13, "validation13 is null");
-//        Objects.requireNonNull(validation14, "validation14 is null");
-//        Objects.requireNonNull(validation15, "validation15 is null");
-//        Objects.requireNonNull(validation16, "validation16 is null");
-//        Objects.requireNonNull(validation17, "validation17 is null");
-//        Objects.requireNonNull(validation18, "validation18 is null");
-//        Objects.requireNonNull(validation19, "validation19 is null");
-//        Objects.requireNonNull(validation20, "validation20 is null");
-//        Objects.requireNonNull(validation21, "validation21 is null");
-//        Objects.requireNonNull(validation22, "validation22 is null");
-//        return new Builder22<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21, validation22);
-//    }
+        return new Builder11<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder12 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @return an instance of Builder12&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> Builder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        return new Builder12<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder13 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @return an instance of Builder13&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> Builder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        return new Builder13<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder14 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @return an instance of Builder14&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> Builder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        return new Builder14<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder15 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @return an instance of Builder15&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> Builder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        return new Builder15<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder16 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @return an instance of Builder16&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> Builder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        return new Builder16<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder17 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @return an instance of Builder17&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> Builder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        return new Builder17<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder18 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @return an instance of Builder18&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> Builder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        return new Builder18<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder19 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param <T19>        type of 19 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @return an instance of Builder19&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> Builder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        return new Builder19<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder20 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param <T19>        type of 19 valid value
+     * @param <T20>        type of 20 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @return an instance of Builder20&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> Builder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        return new Builder20<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder21 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param <T19>        type of 19 valid value
+     * @param <T20>        type of 20 valid value
+     * @param <T21>        type of 21 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @param validation21 21 validation
+     * @return an instance of Builder21&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20,T21&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> Builder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20, Validation<E, T21> validation21) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        Objects.requireNonNull(validation21, "validation21 is null");
+        return new Builder21<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21);
+    }
+
+    /**
+     * Combines three {@code Validation}s into a {@link Builder22 }.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param <T12>        type of 12 valid value
+     * @param <T13>        type of 13 valid value
+     * @param <T14>        type of 14 valid value
+     * @param <T15>        type of 15 valid value
+     * @param <T16>        type of 16 valid value
+     * @param <T17>        type of 17 valid value
+     * @param <T18>        type of 18 valid value
+     * @param <T19>        type of 19 valid value
+     * @param <T20>        type of 20 valid value
+     * @param <T21>        type of 21 valid value
+     * @param <T22>        type of 22 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @param validation21 21 validation
+     * @param validation22 22 validation
+     * @return an instance of Builder22&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20,T21,T22&gt;
+     * @throws NullPointerException if validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21, validation22 is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> Builder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20, Validation<E, T21> validation21, Validation<E, T22> validation22) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        Objects.requireNonNull(validation21, "validation21 is null");
+        Objects.requireNonNull(validation22, "validation22 is null");
+        return new Builder22<>(Violations.defaultLimit(), validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21, validation22);
+    }
+
+    /**
+     * Starts a fail-fast combination: {@code validation} is only evaluated if this is valid.
+     *
+     * @param <U>        type of the value of the next validation
+     * @param validation supplier of the next validation
+     * @return an instance of FailFastBuilder2&lt;E,T,U&gt;
+     * @throws NullPointerException if validation is null
+     */
+    default <U> FailFastBuilder2<E, T, U> combineFailFast(Supplier<? extends Validation<E, U>> validation) {
+        Objects.requireNonNull(validation, "validation is null");
+        return new FailFastBuilder2<>(() -> this, validation);
+    }
+
+    /**
+     * Combines 2 supplied {@code Validation}s into a {@link FailFastBuilder2 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @return an instance of FailFastBuilder2&lt;E,T1,T2&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2> FailFastBuilder2<E, T1, T2> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        return new FailFastBuilder2<>(validation1, validation2);
+    }
+
+    /**
+     * Combines 3 supplied {@code Validation}s into a {@link FailFastBuilder3 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @return an instance of FailFastBuilder3&lt;E,T1,T2,T3&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3> FailFastBuilder3<E, T1, T2, T3> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        return new FailFastBuilder3<>(validation1, validation2, validation3);
+    }
+
+    /**
+     * Combines 4 supplied {@code Validation}s into a {@link FailFastBuilder4 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @return an instance of FailFastBuilder4&lt;E,T1,T2,T3,T4&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3, T4> FailFastBuilder4<E, T1, T2, T3, T4> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        return new FailFastBuilder4<>(validation1, validation2, validation3, validation4);
+    }
+
+    /**
+     * Combines 5 supplied {@code Validation}s into a {@link FailFastBuilder5 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @return an instance of FailFastBuilder5&lt;E,T1,T2,T3,T4,T5&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3, T4, T5> FailFastBuilder5<E, T1, T2, T3, T4, T5> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        return new FailFastBuilder5<>(validation1, validation2, validation3, validation4, validation5);
+    }
+
+    /**
+     * Combines 6 supplied {@code Validation}s into a {@link FailFastBuilder6 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @return an instance of FailFastBuilder6&lt;E,T1,T2,T3,T4,T5,T6&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6> FailFastBuilder6<E, T1, T2, T3, T4, T5, T6> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        return new FailFastBuilder6<>(validation1, validation2, validation3, validation4, validation5, validation6);
+    }
+
+    /**
+     * Combines 7 supplied {@code Validation}s into a {@link FailFastBuilder7 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @return an instance of FailFastBuilder7&lt;E,T1,T2,T3,T4,T5,T6,T7&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7> FailFastBuilder7<E, T1, T2, T3, T4, T5, T6, T7> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        return new FailFastBuilder7<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7);
+    }
+
+    /**
+     * Combines 8 supplied {@code Validation}s into a {@link FailFastBuilder8 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @param validation8 supplier of 8 validation
+     * @return an instance of FailFastBuilder8&lt;E,T1,T2,T3,T4,T5,T6,T7,T8&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8> FailFastBuilder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7, Supplier<? extends Validation<E, T8>> validation8) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        return new FailFastBuilder8<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
+    }
+
+    /**
+     * Combines 9 supplied {@code Validation}s into a {@link FailFastBuilder9 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @param validation8 supplier of 8 validation
+     * @param validation9 supplier of 9 validation
+     * @return an instance of FailFastBuilder9&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9> FailFastBuilder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7, Supplier<? extends Validation<E, T8>> validation8, Supplier<? extends Validation<E, T9>> validation9) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        return new FailFastBuilder9<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
+    }
+
+    /**
+     * Combines 10 supplied {@code Validation}s into a {@link FailFastBuilder10 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @param validation8 supplier of 8 validation
+     * @param validation9 supplier of 9 validation
+     * @param validation10 supplier of 10 validation
+     * @return an instance of FailFastBuilder10&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> FailFastBuilder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7, Supplier<? extends Validation<E, T8>> validation8, Supplier<? extends Validation<E, T9>> validation9, Supplier<? extends Validation<E, T10>> validation10) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        return new FailFastBuilder10<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
+    }
+
+    /**
+     * Combines 11 supplied {@code Validation}s into a {@link FailFastBuilder11 }, which evaluates them
+     * in order and stops at the first {@code Invalid}.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>        type of 10 valid value
+     * @param <T11>        type of 11 valid value
+     * @param validation1 supplier of 1 validation
+     * @param validation2 supplier of 2 validation
+     * @param validation3 supplier of 3 validation
+     * @param validation4 supplier of 4 validation
+     * @param validation5 supplier of 5 validation
+     * @param validation6 supplier of 6 validation
+     * @param validation7 supplier of 7 validation
+     * @param validation8 supplier of 8 validation
+     * @param validation9 supplier of 9 validation
+     * @param validation10 supplier of 10 validation
+     * @param validation11 supplier of 11 validation
+     * @return an instance of FailFastBuilder11&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    static <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> FailFastBuilder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> combineFailFast(Supplier<? extends Validation<E, T1>> validation1, Supplier<? extends Validation<E, T2>> validation2, Supplier<? extends Validation<E, T3>> validation3, Supplier<? extends Validation<E, T4>> validation4, Supplier<? extends Validation<E, T5>> validation5, Supplier<? extends Validation<E, T6>> validation6, Supplier<? extends Validation<E, T7>> validation7, Supplier<? extends Validation<E, T8>> validation8, Supplier<? extends Validation<E, T9>> validation9, Supplier<? extends Validation<E, T10>> validation10, Supplier<? extends Validation<E, T11>> validation11) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        return new FailFastBuilder11<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
+    }
+
+    default <R, T2> Validation<E, R> accumulateFailFast(Supplier<? extends Validation<E, T2>> v2, BiFunction<T, T2, R> f) {
+        return new FailFastBuilder2<>(() -> this, v2).apply(f);
+    }
+
+    default <R, T2, T3> Validation<E, R> accumulateFailFast(Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Function3<T, T2, T3, R> f) {
+        return new FailFastBuilder3<>(() -> this, v2, v3).apply(f);
+    }
+
+    default <R, T2, T3, T4> Validation<E, R> accumulateFailFast(Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Function4<T, T2, T3, T4, R> f) {
+        return new FailFastBuilder4<>(() -> this, v2, v3, v4).apply(f);
+    }
+
+    default <R, T2, T3, T4, T5> Validation<E, R> accumulateFailFast(Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Function5<T, T2, T3, T4, T5, R> f) {
+        return new FailFastBuilder5<>(() -> this, v2, v3, v4, v5).apply(f);
+    }
+
+    default <R, T2, T3, T4, T5, T6> Validation<E, R> accumulateFailFast(Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Function6<T, T2, T3, T4, T5, T6, R> f) {
+        return new FailFastBuilder6<>(() -> this, v2, v3, v4, v5, v6).apply(f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7> Validation<E, R> accumulateFailFast(Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Function7<T, T2, T3, T4, T5, T6, T7, R> f) {
+        return new FailFastBuilder7<>(() -> this, v2, v3, v4, v5, v6, v7).apply(f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8> Validation<E, R> accumulateFailFast(Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8, Function8<T, T2, T3, T4, T5, T6, T7, T8, R> f) {
+        return new FailFastBuilder8<>(() -> this, v2, v3, v4, v5, v6, v7, v8).apply(f);
+    }
+
+    default <R, T2, T3, T4, T5, T6, T7, T8, T9> Validation<E, R> accumulateFailFast(Supplier<? extends Validation<E, T2>> v2, Supplier<? extends Validation<E, T3>> v3, Supplier<? extends Validation<E, T4>> v4, Supplier<? extends Validation<E, T5>> v5, Supplier<? extends Validation<E, T6>> v6, Supplier<? extends Validation<E, T7>> v7, Supplier<? extends Validation<E, T8>> v8, Supplier<? extends Validation<E, T9>> v9, Function9<T, T2, T3, T4, T5, T6, T7, T8, T9, R> f) {
+        return new FailFastBuilder9<>(() -> this, v2, v3, v4, v5, v6, v7, v8, v9).apply(f);
+    }
 }
@@ -0,0 +1,243 @@
+package io.disc99.validation;
+
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A Reactive Streams stage that validates every element: valid values are emitted downstream,
+ * invalid elements are handed to a dead-letter consumer together with their violations.
+ *
+ * Demand is honoured end to end. Upstream is asked for at most {@code batchSize} elements at a time,
+ * and never for more than downstream has requested; elements rejected to the dead letter are
+ * replaced by new upstream requests. Supports a single downstream subscriber.
+ * On Java 9+ it can be adapted to {@code java.util.concurrent.Flow} with {@code FlowAdapters}.
+ *
+ * @param <E> type of the violations
+ * @param <A> type of the input elements
+ * @param <B> type of the validated elements
+ */
+public final class ValidationProcessor<E, A, B> implements Processor<A, B> {
+
+    private final Function<? super A, ? extends Validation<E, ? extends B>> validator;
+    private final BiConsumer<? super A, ? super List<E>> deadLetter;
+    private final int batchSize;
+
+    private Subscription upstream;
+    private Subscriber<? super B> downstream;
+    private Throwable error;
+    private boolean done;
+    private boolean cancelled;
+    private long demand;
+    private long inFlight;
+    private boolean requesting;
+    private boolean missed;
+
+    /**
+     * Construct a {@code ValidationProcessor}
+     *
+     * @param validator  validates a single element
+     * @param deadLetter receives each invalid element and its violations
+     * @param batchSize  maximum number of elements requested from upstream at once
+     * @throws NullPointerException     if validator or deadLetter is null
+     * @throws IllegalArgumentException if batchSize is not positive
+     */
+    public ValidationProcessor(Function<? super A, ? extends Validation<E, ? extends B>> validator,
+                               BiConsumer<? super A, ? super List<E>> deadLetter,
+                               int batchSize) {
+        Objects.requireNonNull(validator, "validator is null");
+        Objects.requireNonNull(deadLetter, "deadLetter is null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.validator = validator;
+        this.deadLetter = deadLetter;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super B> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is null");
+        boolean terminated;
+        Throwable failure;
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("ValidationProcessor supports only one subscriber"));
+                return;
+            }
+            downstream = subscriber;
+            terminated = done;
+            failure = error;
+        }
+        subscriber.onSubscribe(new Downstream());
+        if (terminated) {
+            terminate(subscriber, failure);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription is null");
+        synchronized (this) {
+            if (upstream != null || cancelled) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+        }
+        refill();
+    }
+
+    @Override
+    public void onNext(A element) {
+        Objects.requireNonNull(element, "element is null");
+        Subscriber<? super B> subscriber;
+        synchronized (this) {
+            subscriber = downstream;
+        }
+        if (subscriber == null) {
+            // Nothing is requested before a subscriber arrives, so upstream broke the protocol.
+            Subscription subscription;
+            synchronized (this) {
+                subscription = upstream;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            onError(new IllegalStateException("onNext before any downstream request"));
+            return;
+        }
+        Validation<E, ? extends B> validation = validator.apply(element);
+        synchronized (this) {
+            inFlight--;
+            if (validation.isValid()) {
+                demand--;
+            }
+        }
+        if (validation.isValid()) {
+            subscriber.onNext(validation.get());
+        } else {
+            deadLetter.accept(element, validation.getViolations());
+        }
+        refill();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable is null");
+        Subscriber<? super B> subscriber;
+        synchronized (this) {
+            done = true;
+            error = throwable;
+            subscriber = downstream;
+        }
+        if (subscriber != null) {
+            terminate(subscriber, throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        Subscriber<? super B> subscriber;
+        synchronized (this) {
+            done = true;
+            subscriber = downstream;
+        }
+        if (subscriber != null) {
+            terminate(subscriber, null);
+        }
+    }
+
+    /**
+     * Requests the next batch from upstream once the previous one has been mostly consumed,
+     * bounded by the outstanding downstream demand.
+     *
+     * A synchronous upstream delivers elements from within {@code request}, and each of them calls back into
+     * this method. Such nested calls only record that the state changed; the outermost call loops until
+     * nothing is left to request, so the stack depth stays constant however many elements are delivered.
+     */
+    private void refill() {
+        synchronized (this) {
+            if (requesting) {
+                missed = true;
+                return;
+            }
+            requesting = true;
+        }
+        for (;;) {
+            Subscription subscription = null;
+            long n = 0;
+            synchronized (this) {
+                missed = false;
+                if (upstream != null && !done && !cancelled && inFlight <= batchSize / 2) {
+                    n = Math.min(demand - inFlight, batchSize - inFlight);
+                    if (n > 0) {
+                        inFlight += n;
+                        subscription = upstream;
+                    }
+                }
+                if (subscription == null) {
+                    requesting = false;
+                    return;
+                }
+            }
+            subscription.request(n);
+            synchronized (this) {
+                if (!missed) {
+                    requesting = false;
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void terminate(Subscriber<?> subscriber, Throwable failure) {
+        if (failure == null) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(failure);
+        }
+    }
+
+    private final class Downstream implements Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                onError(new IllegalArgumentException("request must be positive: " + n));
+                return;
+            }
+            synchronized (ValidationProcessor.this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            refill();
+        }
+
+        @Override
+        public void cancel() {
+            Subscription subscription;
+            synchronized (ValidationProcessor.this) {
+                cancelled = true;
+                subscription = upstream;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.disc99.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import static io.disc99.validation.Validation.invalid;
+import static io.disc99.validation.Validation.invalidConstant;
+import static io.disc99.validation.Validation.valid;
+
+/**
+ * A library of common rules with {@code String} violations, to be implemented by validators of a type.
+ *
+ * <pre>{@code
+ * class FormValidator implements Validator {
+ *     Validation<String, User> validate(Form form) {
+ *         return combine(notEmpty(form.name), length(form.pass, 6, 20)).apply(User::new);
+ *     }
+ * }
+ * }</pre>
+ *
+ * Pattern rules compile each regular expression once, through {@link PatternCache#shared()}.
+ * Messages are formatted as soon as a rule fails; {@link Rules} offers the same rules with structured
+ * {@link Violation}s that are only rendered when read.
+ */
+public interface Validator {
+
+    default  <T> Validation<String, T> isNotNull(T target) {
+        return target == null ? invalidConstant(Rules.NOT_NULL.template()) : valid(target);
+    }
+
+    default Validation<String, String> equal(String target1, String target2) {
+        return Objects.equals(target1, target2) ? valid(target1) : invalidConstant(Rules.NOT_EQUAL.template());
+    }
+
+    default <T> Validation<String, T> required(T target) {
+        return Objects.isNull(target) ? invalidConstant(Rules.NOT_EMPTY.template()) : valid(target);
+    }
+
+    default Validation<String, String> notEmpty(String target) {
+        return Util.isEmpty(target) ? invalidConstant(Rules.NOT_EMPTY.template()) : valid(target);
+    }
+
+    default Validation<String, String> numeric(String target) {
+        return Util.isNumeric(target) ? valid(target) : invalidConstant(Rules.NOT_NUMBER.template());
+    }
+
+    default Validation<String, String> pattern(String target, String regexp) {
+        return PatternCache.shared().get(regexp).matcher(target).matches()
+                ? valid(target)
+                : invalid(Rules.PATTERN.render(regexp));
+    }
+
+    default Validation<String, String> length(String target, Integer min, Integer max) {
+        return target.length() >= min && target.length() <= max
+                ? valid(target)
+                : invalid(Rules.SIZE.render(min, max));
+    }
+
+    default Validation<String, Integer> size(Integer target, Integer min, Integer max) {
+        return target >= min && target <= max
+                ? valid(target)
+                : invalid(Rules.SIZE.render(min, max));
+    }
+
+    default Validation<String, Long> size(Long target, Long min, Long max) {
+        return target >= min && target <= max
+                ? valid(target)
+                : invalid(Rules.SIZE.render(min, max));
+    }
+
+    default Validation<String, Double> size(Double target, Double min, Double max) {
+        return target >= min && target <= max
+                ? valid(target)
+                : invalid(Rules.SIZE.render(min, max));
+    }
+
+    default IntValidation<String> range(int target, int min, int max) {
+        return target >= min && target <= max
+                ? IntValidation.valid(target)
+                : IntValidation.invalid(Rules.SIZE.render(min, max));
+    }
+
+    default LongValidation<String> range(long target, long min, long max) {
+        return target >= min && target <= max
+                ? LongValidation.valid(target)
+                : LongValidation.invalid(Rules.SIZE.render(min, max));
+    }
+
+    default DoubleValidation<String> range(double target, double min, double max) {
+        return target >= min && target <= max
+                ? DoubleValidation.valid(target)
+                : DoubleValidation.invalid(Rules.SIZE.render(min, max));
+    }
+
+    default Validation<String, BigInteger> size(BigInteger target, BigInteger min, BigInteger max) {
+        return target.compareTo(min) >= 0 && target.compareTo(max) <= 0
+                ? valid(target)
+                : invalid(Rules.SIZE.render(min, max));
+    }
+
+    default Validation<String, BigDecimal> size(BigDecimal target, BigDecimal min, BigDecimal max) {
+        return target.compareTo(min) >= 0 && target.compareTo(max) <= 0
+                ? valid(target)
+                : invalid(Rules.SIZE.render(min, max));
+    }
+}
@@ -0,0 +1,266 @@
+package io.disc99.validation;
+
+import java.io.InvalidObjectException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A structured violation: a preallocated {@link Code} and the parameters of this occurrence.
+ *
+ * The human readable message is only rendered, and then cached, when {@link #message()} or {@code toString}
+ * is called, so rejecting many values costs one small object per violation instead of a formatted string.
+ * Violations without parameters are shared instances.
+ */
+public final class Violation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final Object[] NO_PARAMS = new Object[0];
+
+    private final Code code;
+    /**
+     * The parameters, or {@code null} if they are the two ints {@link #int0} and {@link #int1}.
+     */
+    private final Object[] params;
+    private final int int0;
+    private final int int1;
+
+    private transient volatile String message;
+
+    private Violation(Code code, Object[] params) {
+        this.code = code;
+        this.params = params;
+        this.int0 = 0;
+        this.int1 = 0;
+    }
+
+    private Violation(Code code, int int0, int int1) {
+        this.code = code;
+        this.params = null;
+        this.int0 = int0;
+        this.int1 = int1;
+    }
+
+    /**
+     * Creates a violation of {@code code}.
+     *
+     * @param code   the code
+     * @param params parameters of the message template, not copied
+     * @return a violation, shared if there are no parameters
+     * @throws NullPointerException if code or params is null
+     */
+    public static Violation of(Code code, Object... params) {
+        Objects.requireNonNull(code, "code is null");
+        Objects.requireNonNull(params, "params is null");
+        return params.length == 0 ? code.violation : new Violation(code, params);
+    }
+
+    public Code code() {
+        return code;
+    }
+
+    public int paramCount() {
+        return params == null ? 2 : params.length;
+    }
+
+    public Object param(int index) {
+        if (params == null) {
+            if (index < 0 || index > 1) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: 2");
+            }
+            return index == 0 ? int0 : int1;
+        }
+        return params[index];
+    }
+
+    /**
+     * @return the message template of the code, rendered with the parameters
+     */
+    public String message() {
+        String result = message;
+        if (result == null) {
+            result = code.render(params());
+            message = result;
+        }
+        return result;
+    }
+
+    /**
+     * Renders the violations of {@code validation} into messages, at the edge of the application.
+     *
+     * @param <T>        type of the value
+     * @param validation a validation with structured violations
+     * @return the same validation with the messages of its violations
+     */
+    public static <T> Validation<String, T> render(Validation<Violation, T> validation) {
+        return validation.mapViolations(violations -> violations.stream().map(Violation::message).collect(toList()));
+    }
+
+    /**
+     * @return the parameters, boxed into a new array if they are stored as ints
+     */
+    Object[] params() {
+        return params == null ? new Object[]{int0, int1} : params;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Violation violation = (Violation) o;
+        if (code != violation.code) return false;
+        if (params == null && violation.params == null) {
+            return int0 == violation.int0 && int1 == violation.int1;
+        }
+        return Arrays.equals(params(), violation.params());
+    }
+
+    @Override
+    public int hashCode() {
+        if (params == null) {
+            return 31 * code.hashCode() + 31 * (31 + Integer.hashCode(int0)) + Integer.hashCode(int1);
+        }
+        return 31 * code.hashCode() + Arrays.hashCode(params);
+    }
+
+    @Override
+    public String toString() {
+        return message();
+    }
+
+    /**
+     * A kind of violation, identified by its unique name, with a {@link String#format} message template.
+     * Codes are meant to be created once and kept in constants; see {@link Rules} for the built-in ones.
+     * Each code is also interned under a small {@link #id()}, valid within the running JVM, which
+     * {@link CompactViolations} stores instead of a reference.
+     *
+     * A deserialized code resolves to the code registered under the same name; the code must therefore
+     * already exist in the reading JVM, and streams naming unknown codes are rejected.
+     */
+    public static final class Code implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final ConcurrentMap<String, Code> CODES = new ConcurrentHashMap<>();
+
+        private static volatile Code[] byId = new Code[0];
+
+        private final String name;
+        private final String template;
+
+        private final transient int id;
+        private final transient Violation violation;
+
+        private Code(String name, String template, int id) {
+            this.name = name;
+            this.template = template;
+            this.id = id;
+            this.violation = new Violation(this, NO_PARAMS);
+        }
+
+        /**
+         * Creates and registers a code.
+         *
+         * @param name     unique name of the code
+         * @param template message template, with a {@code %s} per parameter
+         * @return a new code
+         * @throws NullPointerException     if name or template is null
+         * @throws IllegalArgumentException if a code with the same name already exists
+         */
+        public static Code of(String name, String template) {
+            Objects.requireNonNull(name, "name is null");
+            Objects.requireNonNull(template, "template is null");
+            synchronized (CODES) {
+                if (CODES.containsKey(name)) {
+                    throw new IllegalArgumentException("duplicate code: " + name);
+                }
+                return register(name, template);
+            }
+        }
+
+        /**
+         * @param id the id of a code
+         * @return the code interned under {@code id}
+         * @throws IllegalArgumentException if no code has this id
+         */
+        public static Code byId(int id) {
+            Code[] codes = byId;
+            if (id < 0 || id >= codes.length) {
+                throw new IllegalArgumentException("unknown code id: " + id);
+            }
+            return codes[id];
+        }
+
+        private static Code register(String name, String template) {
+            Code[] codes = byId;
+            Code code = new Code(name, template, codes.length);
+            Code[] next = Arrays.copyOf(codes, codes.length + 1);
+            next[code.id] = code;
+            byId = next;
+            CODES.put(name, code);
+            return code;
+        }
+
+        public int id() {
+            return id;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public String template() {
+            return template;
+        }
+
+        /**
+         * @param params parameters of the message template, not copied
+         * @return a violation of this code
+         */
+        public Violation with(Object... params) {
+            return Violation.of(this, params);
+        }
+
+        /**
+         * Like {@link #with(Object...)}, for the common case of two int parameters such as bounds:
+         * they are stored unboxed, without a parameter array, and only boxed when the message is rendered.
+         *
+         * @param param0 first parameter of the message template
+         * @param param1 second parameter of the message template
+         * @return a violation of this code
+         */
+        public Violation with(int param0, int param1) {
+            return new Violation(this, param0, param1);
+        }
+
+        /**
+         * Renders the message template eagerly, for callers that need a {@code String} right away.
+         *
+         * @param params parameters of the message template
+         * @return the message
+         */
+        public String render(Object... params) {
+            return params.length == 0 ? template : String.format(template, params);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            Objects.requireNonNull(Rules.NOT_NULL); // registers the built-in codes before looking them up
+            Code existing = CODES.get(name);
+            if (existing == null) {
+                throw new InvalidObjectException("unknown code: " + name);
+            }
+            return existing;
+        }
+    }
+}
@@ -0,0 +1,1108 @@
+package io.disc99.validation;
+
+import java.util.Objects;
+
+import static io.disc99.validation.Builders.*;
+
+/**
+ * Bounds the number of violations an {@code Invalid} keeps.
+ *
+ * Past the limit, violations are only counted, so memory stays bounded whatever the size of the input; the
+ * total is reported by {@link Validation#getViolationCount()}. A policy is chosen where violations are
+ * collected: pass it to {@code apply}, {@code accumulate}, {@code sequence}, {@code sequenceParallel},
+ * {@code traverse}, {@code traverseParallel} or {@code toValidation}, combine through {@link #combine} instead
+ * of {@code Validation.combine}, or cap any other validation with {@link #bound}.
+ *
+ * <pre>{@code
+ * Validation<String, List<Row>> rows = Validation.traverse(input, this::validRow, ViolationPolicy.keepAtMost(100));
+ * Validation<String, User> user = policy.combine(name, email, age).apply(User::new);
+ * }</pre>
+ *
+ * The overloads without a policy use {@link #defaults()}. Policies are immutable and thread-safe.
+ */
+public final class ViolationPolicy {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final ViolationPolicy UNBOUNDED = new ViolationPolicy(UNLIMITED);
+
+    private static final ViolationPolicy DEFAULTS = of(Integer.getInteger("io.disc99.validation.maxViolations", UNLIMITED));
+
+    private final int maxViolations;
+
+    private ViolationPolicy(int maxViolations) {
+        this.maxViolations = maxViolations;
+    }
+
+    /**
+     * @param max the maximum number of violations to keep
+     * @return a policy keeping the first {@code max} violations
+     * @throws IllegalArgumentException if max is not positive
+     */
+    public static ViolationPolicy keepAtMost(int max) {
+        return of(max);
+    }
+
+    /**
+     * @return a policy keeping every violation
+     */
+    public static ViolationPolicy unlimited() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Gets the policy used when none is given. It is read once, when this class is initialized, from the
+     * system property {@code io.disc99.validation.maxViolations}, and is {@link #unlimited()} if that is not set.
+     *
+     * @return the default policy
+     */
+    public static ViolationPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    private static ViolationPolicy of(int max) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("max must be positive: " + max);
+        }
+        return max == UNLIMITED ? UNBOUNDED : new ViolationPolicy(max);
+    }
+
+    /**
+     * @return the maximum number of violations kept
+     */
+    public int maxViolations() {
+        return maxViolations;
+    }
+
+    /**
+     * Caps the violations of {@code validation} to this policy; violations past the limit are only counted.
+     *
+     * @param <E>        type of the violations
+     * @param <T>        type of the value
+     * @param validation a validation
+     * @return {@code validation} if it keeps no more violations than allowed, otherwise an {@code Invalid} with
+     * the first ones
+     * @throws NullPointerException if validation is null
+     */
+    public <E, T> Validation<E, T> bound(Validation<E, T> validation) {
+        Objects.requireNonNull(validation, "validation is null");
+        if (validation.isValid()) {
+            return validation;
+        }
+        Violations<E> violations = Violations.of(validation);
+        return violations.size() <= maxViolations ? validation : violations.take(maxViolations).toInvalid();
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 2 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @return an instance of Builder2&lt;E,T1,T2&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2> Builder2<E, T1, T2> combine(Validation<E, T1> validation1, Validation<E, T2> validation2) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        return new Builder2<>(maxViolations, validation1, validation2);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 3 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @return an instance of Builder3&lt;E,T1,T2,T3&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3> Builder3<E, T1, T2, T3> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        return new Builder3<>(maxViolations, validation1, validation2, validation3);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 4 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @return an instance of Builder4&lt;E,T1,T2,T3,T4&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4> Builder4<E, T1, T2, T3, T4> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        return new Builder4<>(maxViolations, validation1, validation2, validation3, validation4);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 5 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @return an instance of Builder5&lt;E,T1,T2,T3,T4,T5&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5> Builder5<E, T1, T2, T3, T4, T5> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        return new Builder5<>(maxViolations, validation1, validation2, validation3, validation4, validation5);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 6 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @return an instance of Builder6&lt;E,T1,T2,T3,T4,T5,T6&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6> Builder6<E, T1, T2, T3, T4, T5, T6> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        return new Builder6<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 7 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @return an instance of Builder7&lt;E,T1,T2,T3,T4,T5,T6,T7&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7> Builder7<E, T1, T2, T3, T4, T5, T6, T7> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        return new Builder7<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 8 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @return an instance of Builder8&lt;E,T1,T2,T3,T4,T5,T6,T7,T8&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8> Builder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        return new Builder8<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 9 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @return an instance of Builder9&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9> Builder9<E, T1, T2, T3, T4, T5, T6, T7, T8, T9> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        return new Builder9<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 10 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @return an instance of Builder10&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> Builder10<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        return new Builder10<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 11 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @return an instance of Builder11&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> Builder11<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        return new Builder11<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 12 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @return an instance of Builder12&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> Builder12<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        return new Builder12<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 13 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @return an instance of Builder13&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> Builder13<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        return new Builder13<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 14 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @return an instance of Builder14&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> Builder14<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        return new Builder14<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 15 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param <T15>       type of 15 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @return an instance of Builder15&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> Builder15<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        return new Builder15<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 16 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param <T15>       type of 15 valid value
+     * @param <T16>       type of 16 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @return an instance of Builder16&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> Builder16<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        return new Builder16<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 17 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param <T15>       type of 15 valid value
+     * @param <T16>       type of 16 valid value
+     * @param <T17>       type of 17 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @return an instance of Builder17&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> Builder17<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        return new Builder17<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 18 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param <T15>       type of 15 valid value
+     * @param <T16>       type of 16 valid value
+     * @param <T17>       type of 17 valid value
+     * @param <T18>       type of 18 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @return an instance of Builder18&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> Builder18<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        return new Builder18<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 19 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param <T15>       type of 15 valid value
+     * @param <T16>       type of 16 valid value
+     * @param <T17>       type of 17 valid value
+     * @param <T18>       type of 18 valid value
+     * @param <T19>       type of 19 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @return an instance of Builder19&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> Builder19<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        return new Builder19<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 20 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param <T15>       type of 15 valid value
+     * @param <T16>       type of 16 valid value
+     * @param <T17>       type of 17 valid value
+     * @param <T18>       type of 18 valid value
+     * @param <T19>       type of 19 valid value
+     * @param <T20>       type of 20 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @return an instance of Builder20&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> Builder20<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        return new Builder20<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 21 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param <T15>       type of 15 valid value
+     * @param <T16>       type of 16 valid value
+     * @param <T17>       type of 17 valid value
+     * @param <T18>       type of 18 valid value
+     * @param <T19>       type of 19 valid value
+     * @param <T20>       type of 20 valid value
+     * @param <T21>       type of 21 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @param validation21 21 validation
+     * @return an instance of Builder21&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20,T21&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> Builder21<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20, Validation<E, T21> validation21) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        Objects.requireNonNull(validation21, "validation21 is null");
+        return new Builder21<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21);
+    }
+
+    /**
+     * Same as {@code Validation.combine} for 22 validations, with a builder keeping at most as many violations as
+     * this policy allows, in {@code apply} and in further {@code combine} steps.
+     *
+     * @param <E>         type of violation
+     * @param <T1>        type of 1 valid value
+     * @param <T2>        type of 2 valid value
+     * @param <T3>        type of 3 valid value
+     * @param <T4>        type of 4 valid value
+     * @param <T5>        type of 5 valid value
+     * @param <T6>        type of 6 valid value
+     * @param <T7>        type of 7 valid value
+     * @param <T8>        type of 8 valid value
+     * @param <T9>        type of 9 valid value
+     * @param <T10>       type of 10 valid value
+     * @param <T11>       type of 11 valid value
+     * @param <T12>       type of 12 valid value
+     * @param <T13>       type of 13 valid value
+     * @param <T14>       type of 14 valid value
+     * @param <T15>       type of 15 valid value
+     * @param <T16>       type of 16 valid value
+     * @param <T17>       type of 17 valid value
+     * @param <T18>       type of 18 valid value
+     * @param <T19>       type of 19 valid value
+     * @param <T20>       type of 20 valid value
+     * @param <T21>       type of 21 valid value
+     * @param <T22>       type of 22 valid value
+     * @param validation1 1 validation
+     * @param validation2 2 validation
+     * @param validation3 3 validation
+     * @param validation4 4 validation
+     * @param validation5 5 validation
+     * @param validation6 6 validation
+     * @param validation7 7 validation
+     * @param validation8 8 validation
+     * @param validation9 9 validation
+     * @param validation10 10 validation
+     * @param validation11 11 validation
+     * @param validation12 12 validation
+     * @param validation13 13 validation
+     * @param validation14 14 validation
+     * @param validation15 15 validation
+     * @param validation16 16 validation
+     * @param validation17 17 validation
+     * @param validation18 18 validation
+     * @param validation19 19 validation
+     * @param validation20 20 validation
+     * @param validation21 21 validation
+     * @param validation22 22 validation
+     * @return an instance of Builder22&lt;E,T1,T2,T3,T4,T5,T6,T7,T8,T9,T10,T11,T12,T13,T14,T15,T16,T17,T18,T19,T20,T21,T22&gt;
+     * @throws NullPointerException if any validation is null
+     */
+    public <E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> Builder22<E, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11, T12, T13, T14, T15, T16, T17, T18, T19, T20, T21, T22> combine(Validation<E, T1> validation1, Validation<E, T2> validation2, Validation<E, T3> validation3, Validation<E, T4> validation4, Validation<E, T5> validation5, Validation<E, T6> validation6, Validation<E, T7> validation7, Validation<E, T8> validation8, Validation<E, T9> validation9, Validation<E, T10> validation10, Validation<E, T11> validation11, Validation<E, T12> validation12, Validation<E, T13> validation13, Validation<E, T14> validation14, Validation<E, T15> validation15, Validation<E, T16> validation16, Validation<E, T17> validation17, Validation<E, T18> validation18, Validation<E, T19> validation19, Validation<E, T20> validation20, Validation<E, T21> validation21, Validation<E, T22> validation22) {
+        Objects.requireNonNull(validation1, "validation1 is null");
+        Objects.requireNonNull(validation2, "validation2 is null");
+        Objects.requireNonNull(validation3, "validation3 is null");
+        Objects.requireNonNull(validation4, "validation4 is null");
+        Objects.requireNonNull(validation5, "validation5 is null");
+        Objects.requireNonNull(validation6, "validation6 is null");
+        Objects.requireNonNull(validation7, "validation7 is null");
+        Objects.requireNonNull(validation8, "validation8 is null");
+        Objects.requireNonNull(validation9, "validation9 is null");
+        Objects.requireNonNull(validation10, "validation10 is null");
+        Objects.requireNonNull(validation11, "validation11 is null");
+        Objects.requireNonNull(validation12, "validation12 is null");
+        Objects.requireNonNull(validation13, "validation13 is null");
+        Objects.requireNonNull(validation14, "validation14 is null");
+        Objects.requireNonNull(validation15, "validation15 is null");
+        Objects.requireNonNull(validation16, "validation16 is null");
+        Objects.requireNonNull(validation17, "validation17 is null");
+        Objects.requireNonNull(validation18, "validation18 is null");
+        Objects.requireNonNull(validation19, "validation19 is null");
+        Objects.requireNonNull(validation20, "validation20 is null");
+        Objects.requireNonNull(validation21, "validation21 is null");
+        Objects.requireNonNull(validation22, "validation22 is null");
+        return new Builder22<>(maxViolations, validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8, validation9, validation10, validation11, validation12, validation13, validation14, validation15, validation16, validation17, validation18, validation19, validation20, validation21, validation22);
+    }
+
+    @Override
+    public String toString() {
+        return maxViolations == UNLIMITED ? "ViolationPolicy(unlimited)" : "ViolationPolicy(" + maxViolations + ")";
+    }
+}
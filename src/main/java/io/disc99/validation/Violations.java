@@ -0,0 +1,296 @@
+package io.disc99.validation;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Persistent sequence of violations backing {@link Validation.Invalid}.
+ *
+ * Appending two sequences allocates a single node and never touches either input, so accumulating
+ * violations over many {@code apply} steps stays linear. The flat {@code List} is only built when
+ * {@link #toList()} is called, and is then cached.
+ *
+ * The number of violations kept is bounded by a {@link ViolationPolicy}, given by the caller of each
+ * operation: once the limit is reached, further violations are only counted, in constant space, and reported
+ * by {@link #count()}. Operations without a policy use {@link ViolationPolicy#defaults()}.
+ *
+ * A sequence of {@link PathViolation}s can also be nested {@link #under} a path in O(1): the node only
+ * records the path, which is resolved once per node while flattening and shared by all violations below it.
+ *
+ * @param <E> type of the violation
+ */
+final class Violations<E> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<E> leaf;
+    private final Violations<E> left;
+    private final Violations<E> right;
+    private final Path prefix;
+    private final int size;
+    private final long dropped;
+
+    private transient volatile List<E> list;
+
+    private Violations(List<E> leaf, long dropped) {
+        this.leaf = leaf;
+        this.left = null;
+        this.right = null;
+        this.prefix = null;
+        this.size = leaf.size();
+        this.dropped = dropped;
+    }
+
+    private Violations(Violations<E> left, Violations<E> right, long dropped) {
+        this.leaf = null;
+        this.left = left;
+        this.right = right;
+        this.prefix = null;
+        this.size = left.size + right.size;
+        this.dropped = left.dropped + right.dropped + dropped;
+    }
+
+    private Violations(Path prefix, Violations<E> child, long dropped) {
+        this.leaf = null;
+        this.left = child;
+        this.right = null;
+        this.prefix = prefix;
+        this.size = child.size;
+        this.dropped = child.dropped + dropped;
+    }
+
+    /**
+     * Copies {@code violations}, so later changes to the caller's list do not affect the sequence.
+     */
+    static <E> Violations<E> of(List<E> violations) {
+        Objects.requireNonNull(violations, "violations is null");
+        return take(violations, defaultLimit(), 0);
+    }
+
+    /**
+     * Wraps {@code violations} without copying it; the caller must not modify or leak the list afterwards.
+     */
+    static <E> Violations<E> owned(List<E> violations) {
+        return violations.size() <= defaultLimit() ? new Violations<>(violations, 0) : take(violations, defaultLimit(), 0);
+    }
+
+    static int defaultLimit() {
+        return ViolationPolicy.defaults().maxViolations();
+    }
+
+    /**
+     * Copies the first {@code limit} of {@code violations}, counting the others as dropped.
+     */
+    private static <E> Violations<E> take(List<E> violations, int limit, long dropped) {
+        int size = violations.size();
+        if (size <= limit) {
+            return new Violations<>(new ArrayList<>(violations), dropped);
+        }
+        return new Violations<>(new ArrayList<>(violations.subList(0, limit)), dropped + size - limit);
+    }
+
+    /**
+     * Gets the violations of the given {@code Invalid}, reusing its backing sequence when possible.
+     */
+    static <E> Violations<E> of(Validation<E, ?> validation) {
+        if (validation instanceof Validation.Invalid) {
+            return ((Validation.Invalid<E, ?>) validation).violations();
+        }
+        if (validation instanceof Validation.Lazy) {
+            return of(((Validation.Lazy<E, ?>) validation).force());
+        }
+        return of(validation.getViolations());
+    }
+
+    static <E> Violations<E> of(IntValidation<E> validation) {
+        if (validation instanceof IntValidation.Invalid) {
+            return ((IntValidation.Invalid<E>) validation).violations();
+        }
+        return of(validation.getViolations());
+    }
+
+    static <E> Violations<E> of(LongValidation<E> validation) {
+        if (validation instanceof LongValidation.Invalid) {
+            return ((LongValidation.Invalid<E>) validation).violations();
+        }
+        return of(validation.getViolations());
+    }
+
+    static <E> Violations<E> of(DoubleValidation<E> validation) {
+        if (validation instanceof DoubleValidation.Invalid) {
+            return ((DoubleValidation.Invalid<E>) validation).violations();
+        }
+        return of(validation.getViolations());
+    }
+
+    /**
+     * Appends the violations of {@code validation}, if it is invalid, to {@code violations}, which may be
+     * {@code null} while nothing has been collected yet.
+     */
+    static <E> Violations<E> append(Violations<E> violations, Validation<E, ?> validation) {
+        return append(violations, validation, defaultLimit());
+    }
+
+    /**
+     * Same as {@link #append(Violations, Validation)}, keeping at most {@code limit} violations.
+     */
+    static <E> Violations<E> append(Violations<E> violations, Validation<E, ?> validation, int limit) {
+        if (validation.isValid()) {
+            return violations;
+        }
+        Violations<E> next = of(validation);
+        return violations == null ? next.take(limit) : violations.append(next, limit);
+    }
+
+    static <E> Violations<E> append(Violations<E> violations, IntValidation<E> validation) {
+        return validation.isValid() ? violations : append(violations, of(validation));
+    }
+
+    static <E> Violations<E> append(Violations<E> violations, LongValidation<E> validation) {
+        return validation.isValid() ? violations : append(violations, of(validation));
+    }
+
+    static <E> Violations<E> append(Violations<E> violations, DoubleValidation<E> validation) {
+        return validation.isValid() ? violations : append(violations, of(validation));
+    }
+
+    private static <E> Violations<E> append(Violations<E> violations, Violations<E> next) {
+        return violations == null ? next : violations.append(next, defaultLimit());
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of violations, including those dropped by the limit
+     */
+    long count() {
+        return size + dropped;
+    }
+
+    Violations<E> append(Violations<E> other) {
+        return append(other, defaultLimit());
+    }
+
+    /**
+     * Appends {@code other}, keeping at most {@code limit} violations; violations already kept are never dropped.
+     */
+    Violations<E> append(Violations<E> other, int limit) {
+        if (other.count() == 0) {
+            return this;
+        }
+        if (count() == 0) {
+            return other.take(limit);
+        }
+        int room = limit - size;
+        if (other.size <= room) {
+            return new Violations<>(this, other, 0);
+        }
+        if (room <= 0) {
+            return plusDropped(other.count());
+        }
+        return new Violations<>(this, other.take(room), 0);
+    }
+
+    /**
+     * Copies this node with {@code n} more dropped violations; the children are shared, so counting
+     * violations past the limit takes constant space.
+     */
+    private Violations<E> plusDropped(long n) {
+        long extra = dropped - (leaf != null ? 0 : prefix != null ? left.dropped : left.dropped + right.dropped);
+        if (leaf != null) {
+            return new Violations<>(leaf, extra + n);
+        }
+        if (prefix != null) {
+            return new Violations<>(prefix, left, extra + n);
+        }
+        return new Violations<>(left, right, extra + n);
+    }
+
+    /**
+     * Keeps the first {@code limit} violations, counting the others as dropped. Only the nodes holding the kept
+     * violations are visited, so capping a large sequence costs O(limit), not O(size).
+     */
+    Violations<E> take(int limit) {
+        return size <= limit ? this : new Violations<>(flatten(limit), count() - limit);
+    }
+
+    /**
+     * Replaces the violations by {@code violations}, e.g. mapped ones, keeping the count of dropped violations.
+     */
+    <U> Violations<U> withList(List<U> violations) {
+        return take(violations, defaultLimit(), dropped);
+    }
+
+    /**
+     * Nests these violations, which must be {@link PathViolation}s, under {@code path}.
+     */
+    Violations<E> under(Path path) {
+        return path.isRoot() || size == 0 ? this : new Violations<>(path, this, 0);
+    }
+
+    <T> Validation<E, T> toInvalid() {
+        return new Validation.Invalid<>(this);
+    }
+
+    List<E> toList() {
+        List<E> result = list;
+        if (result == null) {
+            result = leaf != null ? Collections.unmodifiableList(leaf) : Collections.unmodifiableList(flatten(size));
+            list = result;
+        }
+        return result;
+    }
+
+    /**
+     * Collects the first {@code limit} violations, skipping the subtrees that lie past them.
+     */
+    private List<E> flatten(int limit) {
+        List<E> result = new ArrayList<>(Math.min(size, limit));
+        Deque<Violations<E>> stack = new ArrayDeque<>();
+        Deque<Path> prefixes = new ArrayDeque<>();
+        stack.push(this);
+        prefixes.push(Path.ROOT);
+        while (!stack.isEmpty() && result.size() < limit) {
+            Violations<E> node = stack.pop();
+            Path path = prefixes.pop();
+            int need = limit - result.size();
+            List<E> elements = node.leaf != null ? node.leaf : node.list;
+            if (elements != null) {
+                addAll(result, elements.size() <= need ? elements : elements.subList(0, need), path);
+            } else if (node.prefix != null) {
+                stack.push(node.left);
+                prefixes.push(path.resolve(node.prefix));
+            } else {
+                if (node.left.size < need) {
+                    stack.push(node.right);
+                    prefixes.push(path);
+                }
+                stack.push(node.left);
+                prefixes.push(path);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> void addAll(List<E> result, List<E> elements, Path path) {
+        if (path.isRoot()) {
+            result.addAll(elements);
+            return;
+        }
+        for (E element : elements) {
+            result.add((E) ((PathViolation) element).under(path));
+        }
+    }
+
+    private Object writeReplace() {
+        return leaf != null ? this : new Violations<>(new ArrayList<>(toList()), dropped);
+    }
+}
@@ -0,0 +1,21 @@
+package io.disc99.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The length of the annotated {@code CharSequence} must be between {@link #min()} and {@link #max()}, inclusive.
+ * Reports {@code "size must be between min and max"}. {@code null} is valid.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Length {
+
+    int min() default 0;
+
+    int max() default Integer.MAX_VALUE;
+}
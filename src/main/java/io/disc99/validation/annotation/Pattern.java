@@ -0,0 +1,19 @@
+package io.disc99.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated {@code CharSequence} must match {@link #regexp()} entirely.
+ * Reports {@code "must match \"regexp\""}. {@code null} is valid.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Pattern {
+
+    String regexp();
+}
@@ -0,0 +1,8 @@
+/**
+ * Field constraints read at compile time by {@code io.disc99.validation.processor.ValidatorProcessor}.
+ *
+ * For every type with constrained fields the processor generates {@code <Type>Validator}, in the same package,
+ * with a static {@code validate} method that checks all fields without reflection.
+ * Nested types are named after their enclosing types, e.g. {@code Outer_InnerValidator}.
+ */
+package io.disc99.validation.annotation;
@@ -0,0 +1,21 @@
+package io.disc99.validation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The executor that runs the checks of {@link StructuredValidation} calls.
+ *
+ * Java 21 version: one virtual thread per check, so blocking checks need no pool sizing.
+ */
+final class Scopes {
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private Scopes() {
+    }
+
+    static ExecutorService executor() {
+        return EXECUTOR;
+    }
+}
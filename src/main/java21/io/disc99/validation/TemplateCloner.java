@@ -0,0 +1,53 @@
+package io.disc99.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Clones a {@link StraightLines} template class for a schema.
+ *
+ * Java 21 version: every schema gets its own hidden copy of the unchanged template bytecode. The copy still
+ * calls the rules and the function through their interfaces, but its call sites only ever see the lambdas of
+ * one schema, so the JIT profiles them as monomorphic and can inline them, instead of sharing megamorphic
+ * call sites between all schemas of the same arity.
+ */
+final class TemplateCloner {
+
+    private TemplateCloner() {
+    }
+
+    /**
+     * @return a validator backed by a hidden copy of {@code template}, or {@code null} if the copy cannot be
+     * defined, in which case callers instantiate the shared template
+     */
+    @SuppressWarnings("unchecked")
+    static <A, E, R> CompiledValidator<A, E, R> cloneOf(Class<?> template, Class<?>[] parameterTypes, Object... arguments) {
+        MethodHandle constructor;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes(template), true);
+            constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, parameterTypes));
+        } catch (IOException | ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+        try {
+            return (CompiledValidator<A, E, R>) constructor.invokeWithArguments(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("cannot instantiate clone of " + template.getName(), e);
+        }
+    }
+
+    private static byte[] bytes(Class<?> template) throws IOException {
+        String name = template.getName();
+        try (InputStream in = template.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            if (in == null) {
+                throw new IOException("class file of " + name + " not found");
+            }
+            return in.readAllBytes();
+        }
+    }
+}
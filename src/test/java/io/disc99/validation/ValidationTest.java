@@ -1,14 +1,33 @@
 package io.disc99.validation;
 
+import io.disc99.validation.annotation.Length;
+import io.disc99.validation.annotation.NotNull;
+import io.disc99.validation.annotation.Pattern;
+import io.disc99.validation.annotation.Range;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static io.disc99.validation.Validation.*;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.toCollection;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 public class ValidationTest {
 
@@ -147,6 +166,634 @@ public class ValidationTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void shouldKeepViolationOrderForInvalidCombine() {
+        Validation<String, String> v1 = invalid("name", "name2");
+        Validation<String, Integer> v2 = valid(39);
+        Validation<String, Optional<String>> v3 = invalid("address");
+        Validation<String, String> v4 = invalid("phone");
+
+        Validation<String, TestValidation> result = combine(v1, v2, v3, v4).apply(TestValidation::new);
+
+        assertThat(result.isInvalid()).isTrue();
+        assertThat(result.getViolations()).containsExactly("name", "name2", "address", "phone");
+    }
+
+    @Test
+    public void shouldCombineUpTo22Validations() {
+        Validation<String, Integer> v = valid(1);
+        Validation<String, Integer> sum = combine(v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10 + a11 + a12 + a13 + a14 + a15 + a16 + a17 + a18 + a19 + a20 + a21 + a22);
+        assertThat(sum.get()).isEqualTo(22);
+
+        Validation<String, Integer> result = combine(invalid("first"), v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v, v)
+                .combine(invalid("last"))
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22) -> 0);
+        assertThat(result.getViolations()).containsExactly("first", "last");
+
+        AsyncValidation<String, Integer> a = AsyncValidation.of(java.util.concurrent.CompletableFuture.completedFuture(v));
+        Validation<String, Integer> async = AsyncValidation.combine(a, a, a, a, a, a, a, a, a, a, a, a, a, a, a, a, a, a, a, a, a, a)
+                .apply((a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22) ->
+                        a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + a9 + a10 + a11 + a12 + a13 + a14 + a15 + a16 + a17 + a18 + a19 + a20 + a21 + a22)
+                .join();
+        assertThat(async).isEqualTo(sum);
+    }
+
+    @Test
+    public void shouldCombineAnyNumberOfFields() {
+        Fields.Layout layout = new Fields.Layout();
+        List<Fields.Key<Integer>> columns = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            columns.add(layout.key("c" + i));
+        }
+        Fields.Key<String> name = layout.key("name");
+
+        Fields.Builder<String> valid = layout.combine(name, valid("row"));
+        columns.forEach(column -> valid.combine(column, valid(column.name().length())));
+        Validation<String, Fields> fields = valid.apply();
+        assertThat(fields.get().size()).isEqualTo(101);
+        assertThat(fields.get().get(name)).isEqualTo("row");
+        assertThat(fields.get().get(columns.get(99))).isEqualTo(3);
+
+        Fields.Builder<String> invalid = layout.combine(name, invalid("name"));
+        columns.forEach(column -> invalid.combine(column, column.name().equals("c42") ? invalid("c42") : valid(0)));
+        assertThat(invalid.apply(f -> f.get(name)).getViolations()).containsExactly("name", "c42");
+    }
+
+    @Test
+    public void shouldAccumulateInSameOrderAsCombine() {
+        Validation<String, String> v1 = invalid("name");
+        Validation<String, Integer> v2 = valid(39);
+        Validation<String, Optional<String>> v3 = invalid("address");
+        Validation<String, String> v4 = valid("111-111-1111");
+        Validation<String, String> v5 = invalid("alt1", "alt2");
+
+        Validation<String, TestValidation> accumulated = v1.accumulate(v2, v3, v4, v5, TestValidation::new);
+        Validation<String, TestValidation> combined = combine(v1, v2, v3, v4, v5).apply(TestValidation::new);
+
+        assertThat(accumulated.getViolations()).containsExactly("name", "address", "alt1", "alt2");
+        assertThat(accumulated).isEqualTo(combined);
+    }
+
+    @Test
+    public void shouldNotMutateViolationsOnApply() {
+        Validation<String, String> v1 = invalid("name");
+        List<String> ageViolations = new ArrayList<>(Arrays.asList("age"));
+        Validation<String, Integer> v2 = invalid(ageViolations);
+        ageViolations.add("later");
+
+        Validation<String, TestValidation> result = v1.accumulate(v2, TestValidation::new);
+
+        assertThat(result.getViolations()).containsExactly("name", "age");
+        assertThat(result.getViolationCount()).isEqualTo(2);
+        assertThat(v1.getViolations()).containsExactly("name");
+        assertThat(v2.getViolations()).containsExactly("age");
+    }
+
+    @Test
+    public void shouldShareConstantValidations() {
+        assertThat(Validation.<String, Boolean>valid(true)).isSameAs(valid(true));
+        assertThat(Validation.<String, Integer>valid(39)).isSameAs(valid(39));
+        assertThat(Validation.<String, Optional<String>>valid(Optional.empty())).isSameAs(valid(Optional.empty()));
+        assertThat(Validation.<String, Integer>valid(1000)).isEqualTo(valid(1000));
+        assertThat(Validation.<String, String>invalidConstant("may not be null")).isSameAs(invalidConstant("may not be null"));
+        assertThat(Validation.<String, String>invalidConstant("may not be null")).isEqualTo(invalid("may not be null"));
+    }
+
+    @Test
+    public void shouldCombinePrimitiveValidations() {
+        Validator validator = new Validator() {};
+
+        Validation<String, String> valid = validator.range(3, 0, 10)
+                .combine(validator.range(7, 0, 10))
+                .apply((a, b) -> a + ":" + b);
+        Validation<String, Long> invalid = validator.range(-1L, 0L, 10L)
+                .accumulate(validator.range(11L, 0L, 10L), (a, b) -> a + b);
+        Validation<String, Double> mapped = validator.range(0.5, 0.0, 1.0).map(d -> d * 2).boxed();
+        IntValidation<String> one = IntValidation.valid(1);
+        Validation<String, Integer> sum = one.accumulate(one, one, one, one, one, one, one, one, one, validator.range(11, 0, 10),
+                (a, b, c, d, e, f, g, h, i, j, k) -> a + b + c + d + e + f + g + h + i + j + k);
+        Validation<String, Integer> total = IntValidation.combine(one, one, one, one, one, one, one, one, one, one, one)
+                .apply((a, b, c, d, e, f, g, h, i, j, k) -> a + b + c + d + e + f + g + h + i + j + k);
+
+        assertThat(valid).isEqualTo(valid("3:7"));
+        assertThat(sum.getViolations()).containsExactly("size must be between 0 and 10");
+        assertThat(total).isEqualTo(valid(11));
+        assertThat(invalid.getViolations()).containsExactly("size must be between 0 and 10", "size must be between 0 and 10");
+        assertThat(mapped).isEqualTo(valid(1.0));
+    }
+
+    @Test
+    public void shouldTraverseInInputOrder() {
+        List<Integer> ages = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ages.add(i % 1000 == 0 ? -i : i);
+        }
+        PersonValidator validator = new PersonValidator();
+
+        Validation<String, List<Integer>> sequential = traverse(ages, validator::validateAge);
+        Validation<String, List<Integer>> parallel = traverseParallel(ages, validator::validateAge);
+        Validation<String, List<Integer>> valid = traverseParallel(ages.subList(1, 1000), validator::validateAge);
+
+        assertThat(sequential.getViolations()).hasSize(9);
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(valid.get()).isEqualTo(ages.subList(1, 1000));
+        assertThat(sequence(Arrays.asList(valid("a"), invalid("b"), invalid("c")))).isEqualTo(invalid("b", "c"));
+    }
+
+    @Test
+    public void shouldCollectValidations() {
+        PersonValidator validator = new PersonValidator();
+
+        Validation<String, List<Integer>> valid = Arrays.asList(1, 2, 3).stream()
+                .map(validator::validateAge)
+                .collect(toValidation());
+        Validation<String, List<Integer>> invalid = Arrays.asList(1, -2, 3, -4).parallelStream()
+                .map(validator::validateAge)
+                .collect(toValidation());
+        Validation<String, Long> counted = Arrays.asList(1, 2, 3).parallelStream()
+                .map(validator::validateAge)
+                .collect(toValidation(counting()));
+
+        assertThat(valid).isEqualTo(valid(Arrays.asList(1, 2, 3)));
+        assertThat(invalid).isEqualTo(invalid("Age must be greater than 0", "Age must be greater than 0"));
+        assertThat(counted).isEqualTo(valid(3L));
+    }
+
+    @Test
+    public void shouldStopAtFirstViolationWhenFailFast() {
+        List<String> evaluated = new ArrayList<>();
+        FormValidator validator = new FormValidator();
+
+        Validation<String, User> result = combineFailFast(
+                () -> { evaluated.add("name"); return validator.validName(""); },
+                () -> { evaluated.add("pass"); return validator.validPassword("pass", "pass"); }
+        ).apply(User::new);
+        Validation<String, String> accumulated = validator.required("name").accumulateFailFast(
+                () -> validator.length("pass", 6, 20),
+                () -> { evaluated.add("confirm"); return validator.required("pass"); },
+                (name, pass, confirm) -> name);
+
+        assertThat(result).isEqualTo(invalid("may not be empty"));
+        assertThat(accumulated).isEqualTo(invalid("size must be between 6 and 20"));
+        assertThat(evaluated).containsExactly("name");
+    }
+
+    @Test
+    public void shouldEvaluateLazyValidationOnce() {
+        List<String> evaluated = new ArrayList<>();
+        Validation<String, String> lazy = lazy(() -> {
+            evaluated.add("name");
+            return valid("John Doe");
+        });
+
+        Validation<String, Integer> mapped = lazy.map(String::length).flatMap(l -> valid(l * 2));
+
+        assertThat(evaluated).isEmpty();
+        assertThat(mapped.get()).isEqualTo(16);
+        assertThat(lazy.get()).isEqualTo("John Doe");
+        assertThat(combine(lazy, Validation.<String, Integer>lazy(() -> invalid("age"))).apply(Person::new).getViolations()).containsExactly("age");
+        assertThat(evaluated).containsExactly("name");
+    }
+
+    @Test
+    public void shouldNotForceLazyValidationsWhenCombined() {
+        Validation.Lazy<String, String> name = (Validation.Lazy<String, String>) Validation.<String, String>lazy(() -> valid("John Doe"));
+        Validation.Lazy<String, Integer> age = (Validation.Lazy<String, Integer>) Validation.<String, Integer>lazy(() -> invalid("age"));
+
+        Validation<String, Person> combined = combine(name, age).apply(Person::new);
+        Validation<String, Person> accumulated = name.accumulate(age, Person::new);
+
+        assertThat(name.isEvaluated()).isFalse();
+        assertThat(age.isEvaluated()).isFalse();
+        assertThat(combined.getViolations()).containsExactly("age");
+        assertThat(accumulated.getViolations()).containsExactly("age");
+        assertThat(name.isEvaluated()).isTrue();
+        assertThat(age.isEvaluated()).isTrue();
+    }
+
+    @Test
+    public void shouldCombineAsyncValidationsConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch latch = new CountDownLatch(2);
+            FormValidator validator = new FormValidator();
+            AsyncValidation<String, UserName> name = AsyncValidation.supplyAsync(() -> {
+                latch.countDown();
+                await(latch);
+                return validator.validName("Tom");
+            }, executor);
+            AsyncValidation<String, UserPassword> pass = AsyncValidation.supplyAsync(() -> {
+                latch.countDown();
+                await(latch);
+                return validator.validPassword("pass", "pass");
+            }, executor);
+
+            Validation<String, User> user = AsyncValidation.combine(name, pass).apply(User::new).join();
+
+            assertThat(user).isEqualTo(invalid("size must be between 6 and 20"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRunStructuredValidations() {
+        FormValidator validator = new FormValidator();
+        CountDownLatch never = new CountDownLatch(1);
+
+        Validation<String, User> accumulated = StructuredValidation.accumulating().combine(
+                () -> validator.validName(""),
+                () -> validator.validPassword("pass", "pass")
+        ).apply(User::new);
+        Validation<String, User> failFast = StructuredValidation.failFast().combine(
+                () -> validator.validName(""),
+                () -> {
+                    await(never);
+                    return validator.validPassword("ok_pass", "ok_pass");
+                }
+        ).apply(User::new);
+        Validation<String, List<Integer>> all = StructuredValidation.accumulating().all(Arrays.asList(
+                () -> valid(1),
+                () -> valid(2)
+        ));
+        CountDownLatch started = new CountDownLatch(1);
+        boolean[] finished = new boolean[1];
+        Validation<String, User> stubborn = StructuredValidation.failFast().combine(
+                () -> {
+                    await(started);
+                    return validator.validName("");
+                },
+                () -> {
+                    started.countDown();
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+                    while (System.nanoTime() < deadline) {
+                        java.util.concurrent.locks.LockSupport.parkNanos(deadline - System.nanoTime());
+                    }
+                    finished[0] = true;
+                    return validator.validPassword("ok_pass", "ok_pass");
+                }
+        ).apply(User::new);
+
+        assertThat(accumulated).isEqualTo(invalid("may not be empty", "size must be between 6 and 20"));
+        assertThat(failFast).isEqualTo(invalid("may not be empty"));
+        assertThat(stubborn).isEqualTo(invalid("may not be empty"));
+        assertThat(finished[0]).isTrue();
+        assertThat(all).isEqualTo(valid(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void shouldRunStructuredChecksOnVirtualThreadsOnJava21() throws Exception {
+        assumeTrue(Boolean.getBoolean("io.disc99.validation.java21"));
+        java.lang.reflect.Method isVirtual = Thread.class.getMethod("isVirtual");
+
+        Validation<String, List<Object>> virtual = StructuredValidation.accumulating().all(Arrays.asList(
+                () -> {
+                    try {
+                        return valid(isVirtual.invoke(Thread.currentThread()));
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+        ));
+
+        assertThat(virtual).isEqualTo(valid(Collections.singletonList(true)));
+    }
+
+    @Test
+    public void shouldProcessStreamWithBackpressure() {
+        PersonValidator validator = new PersonValidator();
+        List<Integer> dead = new ArrayList<>();
+        List<Integer> received = new ArrayList<>();
+        long[] upstreamRequested = new long[1];
+
+        ValidationProcessor<String, Integer, Integer> processor =
+                new ValidationProcessor<>(validator::validateAge, (age, violations) -> dead.add(age), 4);
+        processor.subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(2);
+            }
+
+            @Override
+            public void onNext(Integer age) {
+                received.add(age);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        List<Integer> ages = Arrays.asList(1, -2, 3, 4, 5);
+        processor.onSubscribe(new Subscription() {
+            int index;
+
+            @Override
+            public void request(long n) {
+                upstreamRequested[0] += n;
+                for (long i = 0; i < n && index < ages.size(); i++) {
+                    processor.onNext(ages.get(index++));
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        assertThat(received).containsExactly(1, 3);
+        assertThat(dead).containsExactly(-2);
+        assertThat(upstreamRequested[0]).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldDrainSynchronousUpstreamWithoutRecursion() {
+        int count = 200_000;
+        long[] received = new long[1];
+
+        ValidationProcessor<String, Integer, Integer> processor =
+                new ValidationProcessor<>(Validation::valid, (value, violations) -> { }, 1);
+        processor.subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Integer value) {
+                received[0]++;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        processor.onSubscribe(new Subscription() {
+            int index;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && index < count; i++) {
+                    processor.onNext(index++);
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        assertThat(received[0]).isEqualTo(count);
+    }
+
+    @Test
+    public void shouldValidateWithCompiledSchema() {
+        FormValidator validator = new FormValidator();
+        CompiledValidator<SignUpForm, String, User> compiled = Schema.of(
+                Schema.field((SignUpForm f) -> f.name, validator::validName),
+                (SignUpForm f) -> validator.validPassword(f.pass, f.confirmPass)
+        ).apply(User::new);
+
+        for (SignUpForm form : Arrays.asList(
+                new SignUpForm("", "pass", null),
+                new SignUpForm("", "ok_pass", "ng_pass"),
+                new SignUpForm("Tom", "ok_pass", "ok_pass"))) {
+            Validation<String, User> expected = validator.validFrom(form);
+            Validation<String, User> actual = compiled.validate(form);
+            assertThat(actual.isValid()).isEqualTo(expected.isValid());
+            if (actual.isInvalid()) {
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void shouldCloneTemplateWithSameResultsAsInterpretedSchema() {
+        PersonValidator validator = new PersonValidator();
+        CompiledValidator<Person, String, Person> interpreted = Schema.of(
+                Schema.field((Person p) -> p.name, validator::validateName),
+                Schema.field((Person p) -> p.age, validator::validateAge)
+        ).apply(Person::new);
+        CompiledValidator<Person, String, Person> cloned = Schema.of(
+                Schema.field((Person p) -> p.name, validator::validateName),
+                Schema.field((Person p) -> p.age, validator::validateAge)
+        ).cloneTemplate(Person::new);
+
+        for (Person person : Arrays.asList(new Person("John Doe", 30), new Person("John? Doe!4", -1))) {
+            assertThat(cloned.validate(person)).isEqualTo(interpreted.validate(person));
+        }
+    }
+
+    @Test
+    public void shouldValidateWithGeneratedValidator() {
+        assertThat(ValidationTest_AccountValidator.validate(new Account("john", "Pass1234", 20)).isValid()).isTrue();
+
+        Validation<String, Account> result = ValidationTest_AccountValidator.validate(new Account(null, "pass", 200));
+        assertThat(result.getViolations()).containsExactly(
+                "may not be null",
+                "size must be between 8 and 32",
+                "must match \"[A-Za-z0-9]*[0-9][A-Za-z0-9]*\"",
+                "size must be between 0 and 150");
+    }
+
+    @Test
+    public void shouldCompilePatternsOnce() {
+        PatternCache cache = new PatternCache(2);
+        java.util.regex.Pattern pattern = cache.get("[a-z]+");
+        assertThat(cache.get("[a-z]+")).isSameAs(pattern);
+        cache.get("[0-9]+");
+        cache.get("[a-z]+");
+        cache.get("[A-Z]+");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(3);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.get("[a-z]+")).isSameAs(pattern);
+
+        FormValidator validator = new FormValidator();
+        assertThat(validator.pattern("abc", "[a-z]+").isValid()).isTrue();
+        assertThat(validator.pattern("abc1", "[a-z]+").getViolations()).containsExactly("must match \"[a-z]+\"");
+    }
+
+    @Test
+    public void shouldReportStructuredViolations() {
+        Validation<Violation, String> name = Rules.notEmpty("");
+        Validation<Violation, String> pass = Rules.length("pass", 6, 20);
+
+        List<Violation> violations = combine(name, pass).apply((n, p) -> n + p).getViolations();
+        assertThat(violations).extracting(Violation::code).containsExactly(Rules.NOT_EMPTY, Rules.SIZE);
+        assertThat(violations.get(1).param(0)).isEqualTo(6);
+        assertThat(violations.get(1).message()).isEqualTo("size must be between 6 and 20");
+        assertThat(Rules.notEmpty(null)).isSameAs(name);
+        assertThat(Rules.range(21, 0, 20).getViolations()).containsExactly(Rules.SIZE.with(0, 20));
+        assertThat(Rules.SIZE.with(0, 20)).isEqualTo(Rules.SIZE.with((Object) 0, 20));
+        assertThat(Rules.SIZE.with(0, 20).hashCode()).isEqualTo(Rules.SIZE.with((Object) 0, 20).hashCode());
+    }
+
+    @Test
+    public void shouldResolveOnlyRegisteredCodesWhenDeserializing() throws Exception {
+        Violation.Code probe = Violation.Code.of("serial_probe_a", "probe");
+        byte[] known = serialize(probe.with());
+        String unknown = new String(known, StandardCharsets.ISO_8859_1).replace("serial_probe_a", "serial_probe_b");
+
+        assertThat(((Violation) deserialize(known)).code()).isSameAs(probe);
+        assertThat(((Violation) deserialize(serialize(Rules.SIZE.with(0, 20)))).code()).isSameAs(Rules.SIZE);
+        try {
+            deserialize(unknown.getBytes(StandardCharsets.ISO_8859_1));
+            throw new AssertionError("unknown code was resolved");
+        } catch (InvalidObjectException expected) {
+            assertThat(expected).hasMessageContaining("serial_probe_b");
+        }
+    }
+
+    @Test
+    public void shouldCheckFusedStringRulesInOnePass() {
+        StringRule name = StringRule.builder()
+                .notEmpty()
+                .length(1, 8)
+                .allowed(c -> Character.isLetter(c) || c == ' ')
+                .build();
+        StringRule phone = StringRule.builder().numeric().length(10, 11).build();
+
+        assertThat(name.apply("John Doe").isValid()).isTrue();
+        assertThat(name.apply("").getViolations()).extracting(Violation::code).containsExactly(Rules.NOT_EMPTY, Rules.SIZE);
+        assertThat(name.apply("John? Doe!4?").getViolations()).containsExactly(
+                Rules.SIZE.with(1, 8), Rules.CHARSET.with("?!4"));
+        assertThat(phone.apply("090-1234").getViolations()).containsExactly(Rules.NOT_NUMBER.with(), Rules.SIZE.with(10, 11));
+        assertThat(phone.apply(null).getViolations()).containsExactly(Rules.NOT_NULL.with());
+    }
+
+    @Test
+    public void shouldReportOffendingCharactersInFirstSeenOrder() {
+        CharClass name = CharClass.range('a', 'z').union(CharClass.range('A', 'Z')).union(CharClass.of(" "));
+
+        assertThat(name.allowOnly("John Doe").isValid()).isTrue();
+        assertThat(name.allowOnly("J?hn! D?e4 \uD83D\uDE00\u00e9\uD83D\uDE00\u00e9").getViolations())
+                .containsExactly(Rules.CHARSET.with("?!4\uD83D\uDE00\u00e9"));
+        assertThat(CharClass.of("\uD83D\uDE00").forbid("ok \uD83D\uDE00").getViolations())
+                .containsExactly(Rules.CHARSET.with("\uD83D\uDE00"));
+        assertThat(CharClass.matching(Character::isDigit).negate().test('7')).isFalse();
+        assertThat(StringRule.builder().allowed(name).build().apply("a1b2c1").getViolations())
+                .containsExactly(Rules.CHARSET.with("12"));
+
+        StringBuilder greek = new StringBuilder();
+        for (char c = '\u03b1'; c <= '\u03c9'; c++) {
+            greek.append(c);
+        }
+        assertThat(name.allowOnly(greek.toString() + greek + "\uD83D\uDE00").getViolations())
+                .containsExactly(Rules.CHARSET.with(greek + "\uD83D\uDE00"));
+    }
+
+    @Test
+    public void shouldKeepCompactViolations() {
+        Validation<Violation, String> report = combine(Rules.notNull(null), Rules.length("pass", 6, 20), Rules.notEmpty(""))
+                .apply((a, b, c) -> "");
+
+        Validation<Violation, String> compact = CompactViolations.compact(report);
+        assertThat(compact.getViolations()).isEqualTo(report.getViolations());
+        assertThat(compact.getViolations().get(0)).isSameAs(Rules.NOT_NULL.with());
+        assertThat(CompactViolations.of(report.getViolations()).code(1)).isSameAs(Rules.SIZE);
+        assertThat(compact.getViolations().get(1)).isSameAs(report.getViolations().get(1));
+        assertThat(Violation.Code.byId(Rules.SIZE.id())).isSameAs(Rules.SIZE);
+        assertThat(Violation.render(compact).getViolations())
+                .containsExactly("may not be null", "size must be between 6 and 20", "may not be empty");
+    }
+
+    @Test
+    public void shouldReportViolationsWithSharedPaths() {
+        List<String> skus = Arrays.asList("A-1", "", "B-2", "");
+        List<Validation<PathViolation, String>> items = new ArrayList<>();
+        for (int i = 0; i < skus.size(); i++) {
+            items.add(at(i, at("sku", PathViolation.lift(Rules.notEmpty(skus.get(i))))));
+        }
+        Validation<PathViolation, String> order = at("order", combine(
+                at("id", PathViolation.lift(Rules.length("12", 3, 10))),
+                at("items", sequence(items))
+        ).apply((id, list) -> id));
+
+        List<PathViolation> violations = order.getViolations();
+        assertThat(violations).extracting(Object::toString).containsExactly(
+                "order.id: size must be between 3 and 10",
+                "order.items[1].sku: may not be empty",
+                "order.items[3].sku: may not be empty");
+        assertThat(violations.get(1).path()).isEqualTo(Path.of("order").field("items").index(1).field("sku"));
+        assertThat(violations.get(0).violation()).isEqualTo(Rules.SIZE.with(3, 10));
+    }
+
+    @Test
+    public void shouldKeepAtMostMaxViolations() {
+        ViolationPolicy three = ViolationPolicy.keepAtMost(3);
+        Validation<String, Integer> v = invalid("a", "b");
+        Validation<String, Integer> combined = three.combine(v, v, v).apply((a, b, c) -> a + b + c);
+        assertThat(combined.getViolations()).containsExactly("a", "b", "a");
+        assertThat(combined.getViolationCount()).isEqualTo(6);
+        assertThat(three.combine(v, v).combine(v).apply((a, b, c) -> a).getViolations()).containsExactly("a", "b", "a");
+        Validation<String, Integer> accumulated = v.accumulate(v, v, v, (a, b, c, d) -> a, three);
+        assertThat(accumulated.getViolations()).containsExactly("a", "b", "a");
+        assertThat(accumulated.getViolationCount()).isEqualTo(8);
+        Validation<String, Integer> applied = v.apply(Validation.<String, java.util.function.Function<Integer, Integer>>invalid("f", "g"), three);
+        assertThat(applied.getViolations()).containsExactly("f", "g", "a");
+        assertThat(applied.getViolationCount()).isEqualTo(4);
+        assertThat(combine(v, v, v).apply((a, b, c) -> a).getViolations()).hasSize(6);
+
+        Validation<String, Integer> deep = v;
+        for (int i = 0; i < 10_000; i++) {
+            deep = deep.accumulate(v, (a, b) -> a);
+        }
+        Validation<String, Integer> bounded = three.bound(deep);
+        assertThat(bounded.getViolations()).containsExactly("a", "b", "a");
+        assertThat(bounded.getViolationCount()).isEqualTo(20_002);
+
+        List<Integer> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(i);
+        }
+        Validation<String, List<Integer>> all = traverse(rows, i -> Validation.<String, Integer>invalid("row " + i), three);
+        assertThat(all.getViolations()).containsExactly("row 0", "row 1", "row 2");
+        assertThat(all.getViolationCount()).isEqualTo(10_000);
+        assertThat(traverseParallel(rows, i -> Validation.<String, Integer>invalid("row " + i), three).getViolations())
+                .containsExactly("row 0", "row 1", "row 2");
+        assertThat(rows.stream().map(i -> Validation.<String, Integer>invalid("row " + i)).collect(toValidation(three)).getViolationCount())
+                .isEqualTo(10_000);
+        assertThat(traverse(rows, i -> Validation.<String, Integer>invalid("row " + i)).getViolations()).hasSize(10_000);
+
+        Validation<String, Integer> mapped = three.bound(Validation.<String, Integer>invalid(Arrays.asList("1", "2", "3", "4", "5"))).mapViolations(l -> l);
+        assertThat(mapped.getViolations()).hasSize(3);
+        assertThat(mapped.getViolationCount()).isEqualTo(5);
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public static class TestValidation {
         public String name;
         public Integer age;
@@ -276,6 +923,31 @@ public class ValidationTest {
         }
     }
 
+    static class Account {
+        @NotNull
+        @Length(min = 1, max = 16)
+        private final String name;
+        @Length(min = 8, max = 32)
+        @Pattern(regexp = "[A-Za-z0-9]*[0-9][A-Za-z0-9]*")
+        final String password;
+        @Range(min = 0, max = 150)
+        private final int age;
+
+        Account(String name, String password, int age) {
+            this.name = name;
+            this.password = password;
+            this.age = age;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getAge() {
+            return age;
+        }
+    }
+
     static class SignUpForm {
         String name;
         String pass;